@@ -0,0 +1,133 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.quartz.CronTrigger;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Quartz Trigger 실행 지연(Fire Lag) 측정 리스너
+ * - Cron Trigger: 예정 시각(scheduledFireTime) 대비 실제 실행 시각의 차이를 기록
+ * - 수동 실행(Run Now) Trigger: 별도 카운트만 기록
+ * - Misfire 발생 횟수 및 허용 지연을 넘긴 실행(late fire) 횟수 집계
+ * - 백엔드 프로세스 안에서 동작하고 측정값은 JMX(FireLagMXBean)로 노출
+ */
+public class FireLagListener extends TriggerListenerSupport implements FireLagMXBean
+{
+    // 지연시간 기록기 (마이크로초 단위, 최대 1시간 - 초과분은 최대값으로 기록)
+    private static final long MAX_LAG_MICROS = TimeUnit.HOURS.toMicros(1);
+    private final Recorder lagRecorder = new Recorder(MAX_LAG_MICROS, 3);
+
+    // 허용 지연(ms) - 이 값을 넘기면 late fire 간주
+    private final long lateThresholdMillis;
+
+    private final LongAdder cronFires = new LongAdder();
+    private final LongAdder manualFires = new LongAdder();
+    private final LongAdder lateFires = new LongAdder();
+    private final LongAdder misfires = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public FireLagListener(long lateThresholdMillis)
+    {
+        this.lateThresholdMillis = lateThresholdMillis;
+    }
+
+    @Override
+    public String getName()
+    {
+        return "loadtest-fire-lag";
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context)
+    {
+        if (!(trigger instanceof CronTrigger))
+        {
+            // triggerJob() 으로 생성된 일회성 Trigger (수동 실행)
+            manualFires.increment();
+            return;
+        }
+
+        long lagMillis = Math.max(0, System.currentTimeMillis() - context.getScheduledFireTime().getTime());
+        lagRecorder.recordValue(Math.min(TimeUnit.MILLISECONDS.toMicros(lagMillis), MAX_LAG_MICROS));
+        cronFires.increment();
+
+        if (lagMillis > lateThresholdMillis)
+        {
+            lateFires.increment();
+        }
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger)
+    {
+        misfires.increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode)
+    {
+        completed.increment();
+    }
+
+    /**
+     * 측정 구간 초기화 (등록 단계 이후 소크 구간만 측정하기 위해 사용)
+     */
+    @Override
+    public void reset()
+    {
+        lagRecorder.reset();
+        cronFires.reset();
+        manualFires.reset();
+        lateFires.reset();
+        misfires.reset();
+        completed.reset();
+    }
+
+    @Override
+    public byte[] takeLagHistogram()
+    {
+        Histogram histogram = lagRecorder.getIntervalHistogram();
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    @Override
+    public long getCronFires()
+    {
+        return cronFires.sum();
+    }
+
+    @Override
+    public long getManualFires()
+    {
+        return manualFires.sum();
+    }
+
+    @Override
+    public long getLateFires()
+    {
+        return lateFires.sum();
+    }
+
+    @Override
+    public long getMisfires()
+    {
+        return misfires.sum();
+    }
+
+    @Override
+    public long getCompleted()
+    {
+        return completed.sum();
+    }
+}
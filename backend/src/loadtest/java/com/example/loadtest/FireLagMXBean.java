@@ -0,0 +1,27 @@
+package com.example.loadtest;
+
+/**
+ * 실행 지연 측정값 JMX 노출 인터페이스
+ * - 백엔드는 별도 프로세스(LoadTestBackend)로 실행되므로 부하 테스트 도구는 JMX 로 측정값을 읽음
+ */
+public interface FireLagMXBean
+{
+    String OBJECT_NAME = "com.example.loadtest:type=FireLag";
+
+    long getCronFires();
+
+    long getManualFires();
+
+    long getLateFires();
+
+    long getMisfires();
+
+    long getCompleted();
+
+    /**
+     * 마지막 조회 이후 지연시간 히스토그램 (HdrHistogram 압축 인코딩)
+     */
+    byte[] takeLagHistogram();
+
+    void reset();
+}
@@ -0,0 +1,45 @@
+package com.example.loadtest;
+
+import com.example.SchedulerApplication;
+import org.quartz.Scheduler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 대상 백엔드 (SchedulerLoadTest 가 별도 JVM 으로 실행)
+ * - 외부 환경 변수(DB_URL 등) 없이 H2 내장 DB 로 기동
+ * - Quartz 실행 지연 리스너 등록 후 JMX MBean 으로 노출
+ * - 부하 발생기와 힙/GC 를 공유하지 않으므로 JVM 측정값은 백엔드만의 값
+ * 추가 인자(--server.port 등)는 그대로 Spring 에 전달
+ */
+public class LoadTestBackend
+{
+    public static void main(String[] args) throws Exception
+    {
+        List<String> arguments = new ArrayList<>(List.of(
+            "--spring.profiles.active=loadtest",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.sql.init.mode=never",
+            // 종료 시 드레인 대기 단축
+            "--scheduler.drain.timeout-seconds=5",
+            // Job 실행마다 남는 INFO 로그가 측정을 왜곡하지 않도록 억제
+            "--logging.level.com.example=WARN"));
+        arguments.addAll(List.of(args));
+
+        ConfigurableApplicationContext context = SpringApplication.run(SchedulerApplication.class, arguments.toArray(String[]::new));
+
+        FireLagListener fireLag = new FireLagListener(Long.getLong("loadtest.lateMillis", 1000L));
+        context.getBean(Scheduler.class).getListenerManager().addTriggerListener(fireLag);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(fireLag, new ObjectName(FireLagMXBean.OBJECT_NAME));
+    }
+}
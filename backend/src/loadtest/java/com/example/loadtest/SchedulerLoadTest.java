@@ -0,0 +1,437 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import javax.management.JMX;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스케줄러 부하/소크 테스트 도구
+ * --------------------------------
+ * H2 내장 DB 위에서 백엔드(LoadTestBackend)를 별도 JVM 으로 기동한 뒤 다음 순서로 측정한다.
+ * (부하 발생기의 할당/GC 가 섞이지 않도록 Heap/GC/스레드/실행 지연은 백엔드 JVM 에서 JMX 로 수집)
+ * 1. 등록 단계: SchedulerController POST /api/schedulers 로 N개 Job 동시 등록
+ * 2. 소크 단계: 지정 시간 동안 Run Now / 목록 조회 / 중단·재개 요청을 동시에 발생시키며
+ *    Cron Trigger 실행 지연(fire lag), Misfire, Heap/GC 추이를 수집
+ * 3. 결과: HdrHistogram 백분위가 포함된 JSON 리포트 출력 (릴리스 간 비교용)
+ * 설정 (시스템 프로퍼티, Gradle -Ploadtest.xxx 로 전달):
+ * - loadtest.jobs             등록할 Job 개수 (기본 1000)
+ * - loadtest.concurrency      REST 요청 동시성 (기본 16)
+ * - loadtest.cron             등록 Job Cron 표현식 (기본 매초 실행)
+ * - loadtest.durationSeconds  소크 시간 (기본 120)
+ * - loadtest.thinkMillis      요청 사이 대기 시간 (기본 10)
+ * - loadtest.sampleSeconds    JVM 샘플링 주기 (기본 5)
+ * - loadtest.lateMillis       late fire 판단 기준 지연 (기본 1000)
+ * - loadtest.backendHeap      백엔드 JVM 힙 크기 (기본 512m, -Xms/-Xmx 동일 적용)
+ * - loadtest.report           리포트 파일 경로
+ */
+public class SchedulerLoadTest
+{
+    private static final String API = "/api/schedulers";
+    private static final String JOB_GROUP = "loadtest";
+
+    private final int jobs = Integer.getInteger("loadtest.jobs", 1000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final String cron = System.getProperty("loadtest.cron", "* * * * * ?");
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 120);
+    private final int thinkMillis = Integer.getInteger("loadtest.thinkMillis", 10);
+    private final int sampleSeconds = Integer.getInteger("loadtest.sampleSeconds", 5);
+    private final long lateMillis = Long.getLong("loadtest.lateMillis", 1000L);
+    private final String backendHeap = System.getProperty("loadtest.backendHeap", "512m");
+    private final String reportPath = System.getProperty("loadtest.report", "build/reports/loadtest/report.json");
+
+    // REST 작업별 지연시간 기록기 (마이크로초)
+    private final Map<String, Recorder> restLatency = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> restErrors = new ConcurrentHashMap<>();
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private String baseUrl;
+
+    // 백엔드 JVM 측정용 JMX 프록시
+    private MemoryMXBean backendMemory;
+    private List<GarbageCollectorMXBean> backendGcs;
+    private ThreadMXBean backendThreads;
+
+    public static void main(String[] args) throws Exception
+    {
+        new SchedulerLoadTest().run();
+    }
+
+    private void run() throws Exception
+    {
+        Instant startedAt = Instant.now();
+        int port = freePort();
+        int jmxPort = freePort();
+        baseUrl = "http://localhost:" + port + API;
+        Process backend = startBackend(port, jmxPort);
+
+        try (JMXConnector jmx = connect(backend, jmxPort))
+        {
+            // 백엔드 JVM 의 Quartz 실행 지연 / Heap / GC / 스레드 MXBean
+            MBeanServerConnection connection = jmx.getMBeanServerConnection();
+            FireLagMXBean fireLag = JMX.newMXBeanProxy(connection, new ObjectName(FireLagMXBean.OBJECT_NAME), FireLagMXBean.class);
+            backendMemory = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+            backendGcs = ManagementFactory.getPlatformMXBeans(connection, GarbageCollectorMXBean.class);
+            backendThreads = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("startedAt", startedAt.toString());
+            report.put("settings", settings());
+
+            // 1️⃣ 등록 단계
+            long registerStart = System.nanoTime();
+            registerJobs();
+            double registerSeconds = (System.nanoTime() - registerStart) / 1e9;
+
+            Map<String, Object> register = new LinkedHashMap<>();
+            register.put("elapsedSeconds", registerSeconds);
+            register.put("jobsPerSecond", jobs / registerSeconds);
+            register.put("latency", drainRestStats().get("create"));
+            report.put("register", register);
+
+            // 2️⃣ 소크 단계
+            fireLag.reset();
+            List<Map<String, Object>> samples = soak();
+
+            Map<String, Object> fires = new LinkedHashMap<>();
+            fires.put("cronFires", fireLag.getCronFires());
+            fires.put("manualFires", fireLag.getManualFires());
+            fires.put("completed", fireLag.getCompleted());
+            fires.put("firesPerSecond", (double) fireLag.getCronFires() / durationSeconds);
+            fires.put("misfires", fireLag.getMisfires());
+            fires.put("lateFires", fireLag.getLateFires());
+            fires.put("lagMicros", summarize(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(fireLag.takeLagHistogram()), 0), 0));
+
+            Map<String, Object> soak = new LinkedHashMap<>();
+            soak.put("durationSeconds", durationSeconds);
+            soak.put("rest", drainRestStats());
+            soak.put("fires", fires);
+            soak.put("jvm", samples);
+            report.put("soak", soak);
+            report.put("finishedAt", Instant.now().toString());
+
+            writeReport(report);
+            System.out.printf("부하 테스트 완료: 등록 %.1f jobs/s, 실행 %.1f fires/s, misfire %d, late %d → %s%n",
+                jobs / registerSeconds, (double) fireLag.getCronFires() / durationSeconds,
+                fireLag.getMisfires(), fireLag.getLateFires(), reportPath);
+        }
+        finally
+        {
+            // SIGTERM → 드레인 후 종료
+            backend.destroy();
+            if (!backend.waitFor(60, TimeUnit.SECONDS))
+            {
+                backend.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * 백엔드를 별도 JVM 으로 기동 (같은 클래스패스, 로컬 전용 JMX 포트 개방)
+     */
+    private Process startBackend(int port, int jmxPort) throws IOException
+    {
+        List<String> command = List.of(
+            ProcessHandle.current().info().command().orElse(System.getProperty("java.home") + "/bin/java"),
+            "-Xms" + backendHeap,
+            "-Xmx" + backendHeap,
+            "-Dloadtest.lateMillis=" + lateMillis,
+            "-Djava.rmi.server.hostname=127.0.0.1",
+            "-Dcom.sun.management.jmxremote.host=127.0.0.1",
+            "-Dcom.sun.management.jmxremote.port=" + jmxPort,
+            "-Dcom.sun.management.jmxremote.rmi.port=" + jmxPort,
+            "-Dcom.sun.management.jmxremote.authenticate=false",
+            "-Dcom.sun.management.jmxremote.ssl=false",
+            "-cp", System.getProperty("java.class.path"),
+            LoadTestBackend.class.getName(),
+            "--server.port=" + port);
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    /**
+     * 백엔드 기동(health 200 + 측정 MBean 등록)까지 대기 후 JMX 연결
+     */
+    private JMXConnector connect(Process backend, int jmxPort) throws Exception
+    {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/health")).timeout(Duration.ofSeconds(1)).GET().build();
+        ObjectName fireLagName = new ObjectName(FireLagMXBean.OBJECT_NAME);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+
+        while (System.nanoTime() < deadline)
+        {
+            if (!backend.isAlive())
+            {
+                throw new IllegalStateException("백엔드 기동 실패 (exit " + backend.exitValue() + ")");
+            }
+            try
+            {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                {
+                    JMXConnector connector = JMXConnectorFactory.connect(
+                        new JMXServiceURL("service:jmx:rmi:///jndi/rmi://127.0.0.1:" + jmxPort + "/jmxrmi"));
+                    if (connector.getMBeanServerConnection().isRegistered(fireLagName))
+                    {
+                        return connector;
+                    }
+                    connector.close();
+                }
+            }
+            catch (IOException e)
+            {
+                // 아직 기동 중
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("백엔드 기동 시간 초과");
+    }
+
+    private static int freePort() throws IOException
+    {
+        try (ServerSocket socket = new ServerSocket(0))
+        {
+            return socket.getLocalPort();
+        }
+    }
+
+    private Map<String, Object> settings()
+    {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("jobs", jobs);
+        settings.put("concurrency", concurrency);
+        settings.put("cron", cron);
+        settings.put("durationSeconds", durationSeconds);
+        settings.put("thinkMillis", thinkMillis);
+        settings.put("lateMillis", lateMillis);
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        settings.put("backendMaxHeapBytes", backendMemory.getHeapMemoryUsage().getMax());
+        settings.put("javaVersion", System.getProperty("java.version"));
+        return settings;
+    }
+
+    // -----------------------------
+    // 등록 단계: N개 Job 동시 등록
+    // -----------------------------
+    private void registerJobs() throws InterruptedException
+    {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger next = new AtomicInteger();
+
+        for (int w = 0; w < concurrency; w++)
+        {
+            workers.submit(() ->
+            {
+                int i;
+                while ((i = next.getAndIncrement()) < jobs)
+                {
+                    String body = String.format(
+                        "{\"jobName\":\"%s\",\"jobGroup\":\"%s\",\"description\":\"loadtest\",\"cronExpression\":\"%s\"}",
+                        jobName(i), JOB_GROUP, cron);
+                    send("create", HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)));
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    // -----------------------------
+    // 소크 단계: REST 혼합 부하 + JVM 샘플링
+    // -----------------------------
+    private List<Map<String, Object>> soak() throws InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        for (int w = 0; w < concurrency; w++)
+        {
+            workers.submit(() ->
+            {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline)
+                {
+                    String query = "?jobName=" + encode(jobName(random.nextInt(jobs))) + "&jobGroup=" + encode(JOB_GROUP);
+                    int op = random.nextInt(10);
+
+                    if (op == 0)
+                    {
+                        send("list", HttpRequest.newBuilder(URI.create(baseUrl)).GET());
+                    }
+                    else if (op == 1)
+                    {
+                        send("pause", HttpRequest.newBuilder(URI.create(baseUrl + "/pause" + query))
+                            .POST(HttpRequest.BodyPublishers.noBody()));
+                        send("resume", HttpRequest.newBuilder(URI.create(baseUrl + "/resume" + query))
+                            .POST(HttpRequest.BodyPublishers.noBody()));
+                    }
+                    else
+                    {
+                        send("run", HttpRequest.newBuilder(URI.create(baseUrl + "/run" + query))
+                            .POST(HttpRequest.BodyPublishers.noBody()));
+                    }
+
+                    if (thinkMillis > 0)
+                    {
+                        try
+                        {
+                            Thread.sleep(thinkMillis);
+                        }
+                        catch (InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+
+        // 워커가 도는 동안 주기적으로 JVM 상태 기록
+        List<Map<String, Object>> samples = new ArrayList<>();
+        long start = System.nanoTime();
+        while (!workers.awaitTermination(sampleSeconds, TimeUnit.SECONDS))
+        {
+            samples.add(sampleJvm((System.nanoTime() - start) / 1_000_000_000L));
+        }
+        samples.add(sampleJvm((System.nanoTime() - start) / 1_000_000_000L));
+        return samples;
+    }
+
+    private void send(String operation, HttpRequest.Builder request)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            HttpResponse<Void> response = http.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300)
+            {
+                restErrors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+            }
+        }
+        catch (Exception e)
+        {
+            restErrors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+        }
+        finally
+        {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            restLatency.computeIfAbsent(operation, k -> new Recorder(TimeUnit.MINUTES.toMicros(5), 3))
+                .recordValue(Math.min(micros, TimeUnit.MINUTES.toMicros(5)));
+        }
+    }
+
+    /**
+     * 작업별 REST 통계를 꺼내고 초기화
+     */
+    private Map<String, Object> drainRestStats()
+    {
+        Map<String, Object> stats = new TreeMap<>();
+        restLatency.forEach((operation, recorder) ->
+        {
+            LongAdder errors = restErrors.get(operation);
+            stats.put(operation, summarize(recorder.getIntervalHistogram(), errors == null ? 0 : errors.sumThenReset()));
+        });
+        return stats;
+    }
+
+    /**
+     * 백엔드 JVM 상태 샘플 (JMX)
+     */
+    private Map<String, Object> sampleJvm(long elapsedSeconds)
+    {
+        MemoryUsage heap = backendMemory.getHeapMemoryUsage();
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : backendGcs)
+        {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("elapsedSeconds", elapsedSeconds);
+        sample.put("heapUsedBytes", heap.getUsed());
+        sample.put("heapCommittedBytes", heap.getCommitted());
+        sample.put("gcCount", gcCount);
+        sample.put("gcTimeMillis", gcMillis);
+        sample.put("threads", backendThreads.getThreadCount());
+        return sample;
+    }
+
+    /**
+     * 히스토그램 → 백분위 요약 (+ 릴리스 간 병합/비교를 위한 압축 인코딩)
+     */
+    private static Map<String, Object> summarize(Histogram histogram, long errors)
+    {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("mean", histogram.getMean());
+        summary.put("p50", histogram.getValueAtPercentile(50));
+        summary.put("p90", histogram.getValueAtPercentile(90));
+        summary.put("p99", histogram.getValueAtPercentile(99));
+        summary.put("p999", histogram.getValueAtPercentile(99.9));
+        summary.put("p9999", histogram.getValueAtPercentile(99.99));
+        summary.put("max", histogram.getMaxValue());
+
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        summary.put("hdr", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        return summary;
+    }
+
+    private void writeReport(Map<String, Object> report) throws Exception
+    {
+        File file = new File(reportPath);
+        if (file.getParentFile() != null)
+        {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private static String jobName(int i)
+    {
+        return String.format("lt-%06d", i);
+    }
+
+    private static String encode(String value)
+    {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크
+ * -------------------
+ * cdsArchive 로 추출한 같은 실행 jar 를 두 가지 방식으로 번갈아 기동하여 비교한다.
+ * - baseline: 일반 기동 (기본 프로파일, ddl-auto update + schema.sql)
+ * - fast    : AOT + AppCDS + fast 프로파일
+ * 측정 항목 (프로세스 시작 시점 기준, ms):
+ * - webReadyMillis       GET /api/schedulers/health 첫 HTTP 응답 (DB Job 등록 전 STARTING 503 포함)
+ * - schedulerReadyMillis SchedulerInitializer 의 "서버 초기화 완료" 로그 (DB Job 등록 완료 = health 200 시점)
+ * 설정 (시스템 프로퍼티, Gradle -Pstartup.xxx 로 전달):
+ * - startup.runs            방식별 반복 횟수 (기본 5)
+ * - startup.baselineProfile baseline 활성 프로파일 (기본 default)
+ * - startup.timeoutSeconds  1회 기동 제한 시간 (기본 120)
+ * - startup.report          리포트 파일 경로
+ * DB 연결 정보는 일반 실행과 같이 DB_URL / DB_USERNAME / DB_PASSWORD 환경 변수로 전달
+ */
+public class StartupBenchmark
+{
+    private static final String HEALTH = "/api/schedulers/health";
+    private static final String INITIALIZED_LOG = "서버 초기화 완료";
+
+    private final File dir = new File(System.getProperty("startup.dir", "build/fast"));
+    private final String jar = System.getProperty("startup.jar", "backend-1.0-SNAPSHOT.jar");
+    private final int runs = Integer.getInteger("startup.runs", 5);
+    private final String baselineProfile = System.getProperty("startup.baselineProfile", "default");
+    private final int timeoutSeconds = Integer.getInteger("startup.timeoutSeconds", 120);
+    private final String reportPath = System.getProperty("startup.report", "build/reports/startup/report.json");
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(500))
+        .build();
+
+    public static void main(String[] args) throws Exception
+    {
+        new StartupBenchmark().run();
+    }
+
+    private void run() throws Exception
+    {
+        Map<String, List<Map<String, Object>>> results = new LinkedHashMap<>();
+        results.put("baseline", new ArrayList<>());
+        results.put("fast", new ArrayList<>());
+
+        // baseline 을 먼저 기동 → fast 프로파일이 가정하는 스키마가 준비된 상태에서 비교
+        // 번갈아 실행하여 OS 페이지 캐시 / DB 상태 차이가 한쪽에만 몰리지 않도록 함
+        for (int i = 0; i < runs; i++)
+        {
+            results.get("baseline").add(measure(baselineCommand()));
+            results.get("fast").add(measure(fastCommand()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("settings", settings());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        results.forEach((mode, samples) ->
+        {
+            Map<String, Object> modeSummary = new LinkedHashMap<>();
+            modeSummary.put("webReadyMillis", summarize(samples, "webReadyMillis"));
+            modeSummary.put("schedulerReadyMillis", summarize(samples, "schedulerReadyMillis"));
+            modeSummary.put("runs", samples);
+            summary.put(mode, modeSummary);
+        });
+        report.put("modes", summary);
+
+        double baseline = median(results.get("baseline"), "webReadyMillis");
+        double fast = median(results.get("fast"), "webReadyMillis");
+        report.put("webReadySpeedup", fast > 0 ? baseline / fast : null);
+
+        writeReport(report);
+        System.out.printf("기동 시간 벤치마크 완료: baseline %.0f ms → fast %.0f ms (p50, health 첫 응답 기준) → %s%n",
+            baseline, fast, reportPath);
+    }
+
+    private List<String> baselineCommand()
+    {
+        return List.of(javaExecutable(), "-jar", jar, "--spring.profiles.active=" + baselineProfile);
+    }
+
+    private List<String> fastCommand()
+    {
+        return List.of(javaExecutable(), "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true",
+            "-jar", jar, "--spring.profiles.active=fast");
+    }
+
+    /**
+     * 1회 기동 측정: health 첫 응답 + 초기화 완료 로그까지 대기 후 종료(SIGTERM)
+     */
+    private Map<String, Object> measure(List<String> command) throws Exception
+    {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+            .directory(dir)
+            .redirectErrorStream(true)
+            .start();
+
+        // 표준 출력을 계속 읽어야 자식 프로세스가 막히지 않음
+        CompletableFuture<Long> initialized = new CompletableFuture<>();
+        Thread reader = new Thread(() -> readOutput(process, start, initialized), "startup-output");
+        reader.setDaemon(true);
+        reader.start();
+
+        Map<String, Object> sample = new LinkedHashMap<>();
+        try
+        {
+            sample.put("webReadyMillis", waitForHealth(process, port, start));
+            sample.put("schedulerReadyMillis", initialized.get(timeoutSeconds, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            process.destroy();
+            if (!process.waitFor(60, TimeUnit.SECONDS))
+            {
+                process.destroyForcibly().waitFor();
+            }
+        }
+        System.out.printf("%s → %s%n", fullCommand, sample);
+        return sample;
+    }
+
+    private long waitForHealth(Process process, int port, long start) throws Exception
+    {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + HEALTH))
+            .timeout(Duration.ofSeconds(1))
+            .GET()
+            .build();
+        long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        while (System.nanoTime() < deadline)
+        {
+            if (!process.isAlive())
+            {
+                throw new IllegalStateException("기동 실패: 프로세스 종료 (exit " + process.exitValue() + ")");
+            }
+            try
+            {
+                // 상태 코드와 무관하게 응답이 오면 웹 서버 기동 완료 (초기화 전에는 STARTING 503)
+                http.send(request, HttpResponse.BodyHandlers.discarding());
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+            catch (IOException e)
+            {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("기동 시간 초과: " + timeoutSeconds + "초");
+    }
+
+    private static void readOutput(Process process, long start, CompletableFuture<Long> initialized)
+    {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)))
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (!initialized.isDone() && line.contains(INITIALIZED_LOG))
+                {
+                    initialized.complete(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            // 프로세스 종료
+        }
+        initialized.completeExceptionally(new IllegalStateException("초기화 완료 로그 없이 종료"));
+    }
+
+    private static Map<String, Object> summarize(List<Map<String, Object>> samples, String key)
+    {
+        long[] values = samples.stream().mapToLong(sample -> (Long) sample.get(key)).sorted().toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("min", values[0]);
+        summary.put("p50", median(samples, key));
+        summary.put("max", values[values.length - 1]);
+        return summary;
+    }
+
+    private static double median(List<Map<String, Object>> samples, String key)
+    {
+        long[] values = samples.stream().mapToLong(sample -> (Long) sample.get(key)).sorted().toArray();
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2.0;
+    }
+
+    private Map<String, Object> settings()
+    {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("jar", new File(dir, jar).getPath());
+        settings.put("runs", runs);
+        settings.put("baselineProfile", baselineProfile);
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        settings.put("javaVersion", System.getProperty("java.version"));
+        return settings;
+    }
+
+    private static String javaExecutable()
+    {
+        // CDS 아카이브를 생성한 JVM 과 같은 JVM 으로 기동
+        return ProcessHandle.current().info().command()
+            .orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+    }
+
+    private static int freePort() throws IOException
+    {
+        try (ServerSocket socket = new ServerSocket(0))
+        {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void writeReport(Map<String, Object> report) throws Exception
+    {
+        File file = new File(reportPath);
+        if (file.getParentFile() != null)
+        {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+}
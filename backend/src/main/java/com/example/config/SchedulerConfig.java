@@ -4,6 +4,7 @@ import jakarta.annotation.PreDestroy;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -24,6 +25,10 @@ public class SchedulerConfig
 {
     private Scheduler scheduler;
 
+    // Quartz 스레드 풀 크기 (동시에 실행 가능한 Job 수, 시뮬레이터 용량 계산에도 사용)
+    @Value("${scheduler.thread-count:10}")
+    private int threadCount;
+
     /**
      * Quartz Scheduler Bean 생성 및 설정
      * Spring Boot 기본 Quartz 자동 설정과 별도로 커스텀 스케줄러를 생성
@@ -41,7 +46,7 @@ public class SchedulerConfig
         // 스레드 풀 클래스
         quartzProperties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
         // 스레드 풀 크기 (0 이상이어야 함, 권장 10 정도)
-        quartzProperties.setProperty("org.quartz.threadPool.threadCount", "10");
+        quartzProperties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
         // 스레드 우선순위
         quartzProperties.setProperty("org.quartz.threadPool.threadPriority", "5");
 
@@ -73,7 +78,8 @@ public class SchedulerConfig
     /**
      * 애플리케이션 종료시 스케줄러 정리 작업
      * @PreDestroy 어노테이션을 통해 Bean 소멸시 자동 호출
-     * 실행 중인 Job 안전하게 종료하고 리소스를 정리
+     * 실행 중인 Job 대기는 SchedulerDrainService(SmartLifecycle) 가 기한 내에서 먼저 처리하므로
+     * 여기서는 더 기다리지 않고 리소스만 정리 (기한 없는 종료 대기 방지)
      */
     @PreDestroy
     public void destroyScheduler()
@@ -82,9 +88,9 @@ public class SchedulerConfig
         {
             if (scheduler != null && !scheduler.isShutdown())
             {
-                // true: 현재 실행 중인 Job 완료될 때까지 대기
-                // false: 즉시 강제 종료
-                scheduler.shutdown(true);
+                // true: 현재 실행 중인 Job 완료될 때까지 대기 (기한 없음)
+                // false: 대기하지 않고 종료 → 드레인 기한 초과 Job 은 이미 기록/중단됨
+                scheduler.shutdown(false);
                 System.out.println("스케줄러가 정상적으로 종료");
             }
         }
@@ -94,6 +100,15 @@ public class SchedulerConfig
         }
     }
 
+    /**
+     * Quartz 스레드 풀 크기 조회
+     * @return 설정된 threadCount
+     */
+    public int getThreadCount()
+    {
+        return threadCount;
+    }
+
     /**
      * 스케줄러 상태 확인을 위한 헬퍼 메소드
      * @return 스케줄러가 시작되어 있는지 여부
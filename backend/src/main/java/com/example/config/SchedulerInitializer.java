@@ -1,15 +1,28 @@
 package com.example.config;
 
+import com.example.entity.InterruptedExecution;
 import com.example.entity.SchedulerJob;
+import com.example.repository.InterruptedExecutionRepository;
 import com.example.repository.SchedulerJobRepository;
 import com.example.scheduler.DynamicJob;
-import jakarta.annotation.PostConstruct;
+import com.example.scheduler.HashCronExpander;
+import com.example.scheduler.JobParameterCodec;
+import com.example.scheduler.TenantKeys;
+import com.example.service.IntervalTriggerService;
+import com.example.service.SchedulerDrainService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SchedulerInitializer
@@ -17,6 +30,11 @@ import java.util.List;
  * 서버가 시작될 때 데이터베이스에 저장된 Quartz Job 조회
  * Quartz Scheduler 등록되어 있는지 확인 후 없는 Job 새로 등록하는 역할을 수행
  * 또한, Job 상태(RUNNING, PAUSED)에 따라 즉시 일시정지 또는 실행 대기 상태로 설정
+ * 마지막으로, 이전 노드가 드레인 중 중단한 실행(InterruptedExecution)을 한 번씩 재실행
+ * 이후에도 주기적으로 확인 → 롤링 업데이트(maxSurge)로 새 노드가 먼저 뜬 뒤 기존 노드가 남긴 기록도 재실행
+ * 등록 시점은 웹 서버 기동 이후(ApplicationReadyEvent) → Job 개수와 무관하게 HTTP 요청을 먼저 받을 수 있음
+ * 단, 등록이 끝나기 전까지 health 는 STARTING(503) → 준비 전 노드로 트래픽이 가지 않음
+ * 등록 실패 시 health 는 FAILED(503), 예외를 다시 던져 기동 실패로 처리 (SpringApplication 이 컨텍스트 종료)
  */
 @Slf4j
 @Component // Spring Bean 등록, 애플리케이션 컨텍스트에 포함
@@ -29,11 +47,58 @@ public class SchedulerInitializer
     // DB SchedulerJob 정보를 조회하기 위한 Repository 주입
     private final SchedulerJobRepository jobRepository;
 
+    // 드레인 중 중단된 실행 기록 Repository
+    private final InterruptedExecutionRepository interruptedExecutionRepository;
+
+    // 간격(INTERVAL) Job Tick 엔진 등록
+    private final IntervalTriggerService intervalTriggerService;
+
+    // 기동 완료(health 200) 전환 / 드레인 중인 노드는 중단된 실행을 가져가지 않음
+    private final SchedulerDrainService drainService;
+
+    // 중단된 실행 기록 확인 주기 (초)
+    @Value("${scheduler.drain.recovery-interval-seconds:30}")
+    private long recoveryIntervalSeconds;
+
+    private final ScheduledExecutorService recoverySweeper = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "interrupted-execution-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * 서버 시작 시 실행되는 초기화 메소드
+     * - 일부 Job 만 등록된 채 STARTING 으로 남지 않도록 실패 시 FAILED 전환 후 기동 실패 처리
      */
-    @PostConstruct // Bean 생성 후 자동으로 호출됨
+    @EventListener(ApplicationReadyEvent.class) // 컨텍스트 refresh + 웹 서버 기동 완료 후 호출됨
     public void initJobs() throws SchedulerException
+    {
+        try
+        {
+            registerJobs();
+        }
+        catch (SchedulerException | RuntimeException e)
+        {
+            drainService.markFailed();
+            log.error("서버 초기화 실패: DB Job 등록 중 오류 → 기동 중단", e);
+            throw e;
+        }
+
+        // 이전 노드에서 중단된 실행 재실행 + 이후 주기적으로 확인 (재실행 확인 실패는 기동 실패로 보지 않음)
+        sweepInterruptedExecutions();
+        recoverySweeper.scheduleWithFixedDelay(this::sweepInterruptedExecutions,
+            recoveryIntervalSeconds, recoveryIntervalSeconds, TimeUnit.SECONDS);
+
+        // 모든 초기화 작업 완료 후 health 200 전환 + 로그
+        drainService.markReady();
+        log.info("서버 초기화 완료: Quartz Scheduler DB Job 등록 상태 확인 완료");
+    }
+
+    /**
+     * DB 저장된 Job 을 Quartz Scheduler / Tick 엔진에 등록
+     */
+    private void registerJobs() throws SchedulerException
     {
         // DB 모든 스케줄러 Job 조회
         List<SchedulerJob> jobs = jobRepository.findAll();
@@ -42,8 +107,9 @@ public class SchedulerInitializer
         // 조회된 Job 하나씩 처리
         for (SchedulerJob job : jobs)
         {
-            // JobKey 생성: Quartz Job 식별하는 고유 키 (이름 + 그룹)
-            JobKey jobKey = JobKey.jobKey(job.getJobName(), job.getJobGroup());
+            // JobKey 생성: Quartz Job 식별하는 고유 키 (테넌트 + 이름 + 그룹)
+            String tenantId = TenantKeys.normalize(job.getTenantId());
+            JobKey jobKey = TenantKeys.jobKey(tenantId, job.getJobName(), job.getJobGroup());
 
             // Scheduler 이미 Job 존재하는지 확인
             if (scheduler.checkExists(jobKey))
@@ -60,23 +126,38 @@ public class SchedulerInitializer
                 // - DynamicJob.class: 실제 실행될 Job 클래스
                 // - withIdentity(jobKey): 이름과 그룹 설정
                 // - withDescription: Job 설명 추가
+                // - usingJobData: 저장된 Job 파라미터 (등록 시 1회 디코딩)
                 // - storeDurably(): Trigger 없어도 Job 유지
                 JobDetail jobDetail = JobBuilder.newJob(DynamicJob.class)
                     .withIdentity(jobKey)
                     .withDescription(job.getDescription())
+                    .usingJobData(JobParameterCodec.toJobDataMap(job.getParameterData()))
                     .storeDurably()
                     .build();
 
+                // 간격 Job: Trigger 없이 JobDetail 만 등록, RUNNING 이면 Tick 엔진 등록
+                if (job.isIntervalTrigger())
+                {
+                    scheduler.addJob(jobDetail, false);
+                    if (!"PAUSED".equalsIgnoreCase(job.getStatus()))
+                    {
+                        intervalTriggerService.schedule(jobDetail, job);
+                    }
+                    log.info("간격 Job 등록: {} / {} - {}ms - 상태: {}", job.getJobName(), job.getJobGroup(),
+                        job.getIntervalMillis(), job.getStatus());
+                    continue;
+                }
+
                 // CronTrigger 생성
-                // - 이름 + 그룹으로 TriggerKey 설정
+                // - 테넌트 + 이름 + 그룹으로 TriggerKey 설정
                 // - forJob(jobDetail): 어떤 Job 연결될 Trigger 지정
-                // - withSchedule: Cron 표현식에 따른 실행 스케줄
+                // - withSchedule: Cron 표현식에 따른 실행 스케줄 (H 토큰은 Job 고유 값으로 치환)
                 // - withMisfireHandlingInstructionFireAndProceed: 놓친 실행(Misfire) 처리 정책
                 CronTrigger newTrigger = TriggerBuilder.newTrigger()
-                    .withIdentity(job.getJobName() + "Trigger", job.getJobGroup())
+                    .withIdentity(TenantKeys.triggerKey(tenantId, job.getJobName(), job.getJobGroup()))
                     .forJob(jobDetail)
                     .withSchedule(CronScheduleBuilder
-                        .cronSchedule(job.getCronExpression())
+                        .cronSchedule(HashCronExpander.expand(job.getCronExpression(), job.getJobName(), job.getJobGroup()))
                         .withMisfireHandlingInstructionFireAndProceed())
                     .build();
 
@@ -96,8 +177,80 @@ public class SchedulerInitializer
                 }
             }
         }
+    }
 
-        // 모든 초기화 작업 완료 후 로그
-        log.info("서버 초기화 완료: Quartz Scheduler DB Job 등록 상태 확인 완료");
+    @PreDestroy
+    public void stopRecoverySweep()
+    {
+        recoverySweeper.shutdownNow();
+    }
+
+    /**
+     * 주기적 재실행 확인 (오류가 나도 다음 주기에 다시 확인)
+     */
+    private void sweepInterruptedExecutions()
+    {
+        try
+        {
+            recoverInterruptedExecutions();
+        }
+        catch (SchedulerException | RuntimeException e)
+        {
+            log.error("중단된 실행 재실행 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 드레인 기한 초과로 중단된 실행 재실행
+     * - 기록 삭제(claim)에 성공한 노드만 실행 → 여러 노드가 동시에 확인해도 한 번만 재실행
+     * - 재실행 등록(triggerJob)에 실패하면 기록을 되돌려 다음 확인 때 다시 시도
+     */
+    private void recoverInterruptedExecutions() throws SchedulerException
+    {
+        for (InterruptedExecution execution : interruptedExecutionRepository.findAll())
+        {
+            if (drainService.isDraining())
+            {
+                // 곧 종료되는 노드에 등록하면 실행되지 않고 유실됨
+                return;
+            }
+
+            JobKey jobKey = TenantKeys.jobKey(execution.getTenantId(), execution.getJobName(), execution.getJobGroup());
+            if (!scheduler.checkExists(jobKey))
+            {
+                // 이 노드 기동 후 다른 노드에서 등록된 Job 일 수 있으므로 DB 에서도 삭제된 경우만 기록 정리
+                if (jobRepository.findByTenantIdAndJobNameAndJobGroup(execution.getTenantId(), execution.getJobName(), execution.getJobGroup()) == null
+                    && interruptedExecutionRepository.claim(execution.getId()) == 1)
+                {
+                    log.warn("중단된 실행 재실행 불가: Job 삭제됨 - {}", jobKey);
+                }
+                continue;
+            }
+
+            if (interruptedExecutionRepository.claim(execution.getId()) == 0)
+            {
+                // 다른 노드가 먼저 가져감
+                continue;
+            }
+
+            // 원래 예정 시각을 Trigger 데이터로 전달 (Job 에서 재실행 여부 확인용, 테넌트 쿼터 거부 제외)
+            JobDataMap jobData = new JobDataMap();
+            jobData.put(DynamicJob.RECOVERED_FIRE_TIME_KEY, String.valueOf(execution.getScheduledFireTime()));
+            try
+            {
+                scheduler.triggerJob(jobKey, jobData);
+            }
+            catch (SchedulerException | RuntimeException e)
+            {
+                // 선점한 기록 복원 (새 행으로 저장)
+                execution.setId(null);
+                interruptedExecutionRepository.save(execution);
+                log.warn("중단된 실행 재실행 등록 실패, 다음 확인 때 재시도: {} - {}", jobKey, e.getMessage());
+                continue;
+            }
+
+            log.info("중단된 실행 재실행: {} - 원래 예정 시각: {} - 중단 노드: {}", jobKey,
+                execution.getScheduledFireTime(), execution.getInstanceId());
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테넌트 쿼터 설정 (application.yml scheduler.tenant.*)
+ * - defaults: 모든 테넌트 기본 쿼터 (기본값 0 = 제한 없음 → 쿼터는 overrides 로 지정한 테넌트에만 적용)
+ * - overrides: 테넌트별 개별 쿼터 (지정한 항목만 덮어씀)
+ * 모든 항목은 0 이하면 제한 없음
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.tenant")
+public class TenantQuotaProperties
+{
+    private Quota defaults = new Quota(0, 0, 0);
+
+    private Map<String, Quota> overrides = new HashMap<>();
+
+    /**
+     * 테넌트 적용 쿼터 (개별 설정이 없거나 0 이하인 항목은 기본값 사용)
+     */
+    public Quota quotaOf(String tenantId)
+    {
+        Quota override = overrides.get(tenantId);
+        if (override == null)
+        {
+            return defaults;
+        }
+        return new Quota(
+            override.getMaxJobs() > 0 ? override.getMaxJobs() : defaults.getMaxJobs(),
+            override.getMaxFiresPerSecond() > 0 ? override.getMaxFiresPerSecond() : defaults.getMaxFiresPerSecond(),
+            override.getMaxConcurrentExecutions() > 0 ? override.getMaxConcurrentExecutions() : defaults.getMaxConcurrentExecutions());
+    }
+
+    @Data
+    public static class Quota
+    {
+        // 등록 가능한 최대 Job 개수 (0 이하 = 제한 없음)
+        private long maxJobs;
+
+        // 초당 최대 실행 횟수 (1초 분량까지 버스트 허용, 0 이하 = 제한 없음)
+        private int maxFiresPerSecond;
+
+        // 동시에 실행 가능한 최대 Job 수 (Quartz 스레드 풀 독점 방지, 0 이하 = 제한 없음)
+        private int maxConcurrentExecutions;
+
+        public Quota()
+        {
+        }
+
+        public Quota(long maxJobs, int maxFiresPerSecond, int maxConcurrentExecutions)
+        {
+            this.maxJobs = maxJobs;
+            this.maxFiresPerSecond = maxFiresPerSecond;
+            this.maxConcurrentExecutions = maxConcurrentExecutions;
+        }
+    }
+}
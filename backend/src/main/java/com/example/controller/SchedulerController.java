@@ -1,34 +1,57 @@
 package com.example.controller;
 
+import com.example.dto.CronRespread;
+import com.example.dto.RunExecution;
+import com.example.dto.SchedulerHealth;
+import com.example.dto.SimulationRequest;
+import com.example.dto.SimulationResult;
 import com.example.entity.SchedulerJob;
+import com.example.scheduler.TenantKeys;
+import com.example.scheduler.TenantUsage;
+import com.example.service.RunNowService;
+import com.example.service.ScheduleSimulationService;
+import com.example.service.SchedulerDrainService;
+import com.example.service.SchedulerDrainingException;
 import com.example.service.SchedulerService;
+import com.example.service.TenantQuotaService;
 import lombok.RequiredArgsConstructor;
 import org.quartz.SchedulerException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 스케줄러 REST API
  * - CRUD + 실행, 중단, 재개
+ * - 모든 요청은 X-Tenant-Id 헤더의 테넌트 범위 안에서 처리 (헤더 없으면 default 테넌트)
  */
 @RestController
 @RequestMapping("/api/schedulers")
 @RequiredArgsConstructor
 public class SchedulerController
 {
+    // 테넌트 식별 헤더
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
     private final SchedulerService schedulerService;
+    private final RunNowService runNowService;
+    private final TenantQuotaService tenantQuotaService;
+    private final ScheduleSimulationService simulationService;
+    private final SchedulerDrainService drainService;
 
     // -----------------------------
     // 1️⃣ 스케줄러 등록
     // -----------------------------
     @PostMapping
-    public ResponseEntity<?> createJob(@RequestBody SchedulerJob job) throws SchedulerException
+    public ResponseEntity<?> createJob(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                       @RequestBody SchedulerJob job) throws SchedulerException
     {
         try
         {
-            SchedulerJob savedJob = schedulerService.createJob(job);
+            SchedulerJob savedJob = schedulerService.createJob(TenantKeys.normalize(tenantId), job);
             return ResponseEntity.ok(savedJob);
         }
         catch (IllegalArgumentException e)
@@ -41,28 +64,50 @@ public class SchedulerController
     // 2️⃣ 모든 스케줄러 조회
     // -----------------------------
     @GetMapping
-    public ResponseEntity<List<SchedulerJob>> getAllJobs()
+    public ResponseEntity<List<SchedulerJob>> getAllJobs(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId)
     {
-        return ResponseEntity.ok(schedulerService.getAllJobs());
+        return ResponseEntity.ok(schedulerService.getAllJobs(TenantKeys.normalize(tenantId)));
     }
 
     // -----------------------------
     // 3️⃣ 수동 실행 (Run Now)
+    // - 큐에 접수 후 실행 ID 즉시 반환 (202 Accepted)
+    // - Idempotency-Key 헤더가 같거나, 같은 Job 실행이 대기 중이면 하나의 실행으로 합쳐짐
     // -----------------------------
     @PostMapping("/run")
-    public ResponseEntity<String> runJobNow(@RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
+    public ResponseEntity<RunExecution> runJobNow(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                                  @RequestParam String jobName, @RequestParam String jobGroup,
+                                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey)
     {
-        schedulerService.runJobNow(jobName, jobGroup);
-        return ResponseEntity.ok("Job 실행됨: " + jobName);
+        RunExecution execution = runNowService.submit(TenantKeys.normalize(tenantId), jobName, jobGroup, idempotencyKey);
+
+        // 드레인 중 즉시 거절된 요청은 202 가 아닌 503 (다른 노드로 재시도)
+        if (execution.getStatus() == RunExecution.Status.REJECTED && drainService.isDraining())
+        {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(execution);
+        }
+        return ResponseEntity.accepted().body(execution);
+    }
+
+    // -----------------------------
+    // 3️⃣-1 수동 실행 상태 조회
+    // -----------------------------
+    @GetMapping("/run/{executionId}")
+    public ResponseEntity<RunExecution> getRunExecution(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId, @PathVariable String executionId)
+    {
+        return runNowService.getExecution(TenantKeys.normalize(tenantId), executionId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     // -----------------------------
     // 4️⃣ 삭제
     // -----------------------------
     @DeleteMapping
-    public ResponseEntity<String> deleteJob(@RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
+    public ResponseEntity<String> deleteJob(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                            @RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
     {
-        schedulerService.deleteJob(jobName, jobGroup);
+        schedulerService.deleteJob(TenantKeys.normalize(tenantId), jobName, jobGroup);
         return ResponseEntity.ok("Job 삭제됨: " + jobName);
     }
 
@@ -70,9 +115,10 @@ public class SchedulerController
     // 5️⃣ 중단(Pause)
     // -----------------------------
     @PostMapping("/pause")
-    public ResponseEntity<String> pauseJob(@RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
+    public ResponseEntity<String> pauseJob(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                           @RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
     {
-        schedulerService.pauseJob(jobName, jobGroup);
+        schedulerService.pauseJob(TenantKeys.normalize(tenantId), jobName, jobGroup);
         return ResponseEntity.ok("Job 중단됨: " + jobName);
     }
 
@@ -80,9 +126,10 @@ public class SchedulerController
     // 6️⃣ 재개(Resume)
     // -----------------------------
     @PostMapping("/resume")
-    public ResponseEntity<String> resumeJob(@RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
+    public ResponseEntity<String> resumeJob(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                            @RequestParam String jobName, @RequestParam String jobGroup) throws SchedulerException
     {
-        schedulerService.resumeJob(jobName, jobGroup);
+        schedulerService.resumeJob(TenantKeys.normalize(tenantId), jobName, jobGroup);
         return ResponseEntity.ok("Job 재개됨: " + jobName);
     }
 
@@ -90,9 +137,84 @@ public class SchedulerController
     // 7️⃣ 수정(Update)
     // -----------------------------
     @PutMapping("update")
-    public ResponseEntity<SchedulerJob> updateJob(@RequestBody SchedulerJob job) throws SchedulerException
+    public ResponseEntity<SchedulerJob> updateJob(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId, @RequestBody SchedulerJob job) throws SchedulerException
     {
-        SchedulerJob updatedJob = schedulerService.updateJob(job);
+        SchedulerJob updatedJob = schedulerService.updateJob(TenantKeys.normalize(tenantId), job);
         return ResponseEntity.ok(updatedJob);
     }
+
+    // -----------------------------
+    // 8️⃣ 파라미터 수정 (Trigger 재등록 없음)
+    // -----------------------------
+    @PutMapping("/parameters")
+    public ResponseEntity<SchedulerJob> updateParameters(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                                         @RequestParam String jobName, @RequestParam String jobGroup,
+                                                         @RequestBody Map<String, Object> parameters) throws SchedulerException
+    {
+        return ResponseEntity.ok(schedulerService.updateParameters(TenantKeys.normalize(tenantId), jobName, jobGroup, parameters));
+    }
+
+    // -----------------------------
+    // 9️⃣ 테넌트 쿼터 / 사용량 조회
+    // -----------------------------
+    @GetMapping("/tenant/usage")
+    public ResponseEntity<TenantUsage> getTenantUsage(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId)
+    {
+        return ResponseEntity.ok(tenantQuotaService.currentUsageOf(TenantKeys.normalize(tenantId)));
+    }
+
+    // -----------------------------
+    // 🔟 스케줄 시뮬레이션 (Dry-run, 실제 스케줄 변경 없음)
+    // - 본문 생략 시 현재 카탈로그 기준 향후 24시간
+    // -----------------------------
+    @PostMapping("/simulate")
+    public ResponseEntity<SimulationResult> simulate(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                                     @RequestBody(required = false) SimulationRequest request)
+    {
+        return ResponseEntity.ok(simulationService.simulate(TenantKeys.normalize(tenantId),
+            request == null ? new SimulationRequest() : request));
+    }
+
+    // -----------------------------
+    // 1️⃣1️⃣ 혼잡 Cron 일괄 분산 (Respread)
+    // - 기본 dryRun=true: 변경 내역만 확인
+    // -----------------------------
+    @PostMapping("/respread")
+    public ResponseEntity<List<CronRespread>> respread(@RequestHeader(value = TENANT_HEADER, required = false) String tenantId,
+                                                       @RequestParam(defaultValue = "true") boolean dryRun) throws SchedulerException
+    {
+        return ResponseEntity.ok(schedulerService.respread(TenantKeys.normalize(tenantId), dryRun));
+    }
+
+    // -----------------------------
+    // 1️⃣2️⃣ 스케줄러 상태 (RUNNING 이면 200, 기동 중/기동 실패/드레인 중/완료면 503)
+    // -----------------------------
+    @GetMapping("/health")
+    public ResponseEntity<SchedulerHealth> health()
+    {
+        SchedulerHealth health = drainService.health();
+        HttpStatus status = health.getState() == SchedulerHealth.State.RUNNING ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(health);
+    }
+
+    // 잘못된 테넌트 ID 등 요청 값 오류 → 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e)
+    {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    // 드레인 중인 노드 (예: 간격 Job 등록/재개) → 503, 다른 노드로 재시도
+    @ExceptionHandler(SchedulerDrainingException.class)
+    public ResponseEntity<String> handleDraining(SchedulerDrainingException e)
+    {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    // 현재 상태와 충돌하는 요청 (예: 다른 Job 에 사용된 Idempotency-Key)
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleIllegalState(IllegalStateException e)
+    {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
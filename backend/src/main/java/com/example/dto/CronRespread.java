@@ -0,0 +1,24 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 혼잡 Cron 일괄 분산(Respread) 결과 1건
+ */
+@Data
+@AllArgsConstructor
+public class CronRespread
+{
+    private String jobName;
+    private String jobGroup;
+
+    // 변경 전 표현식
+    private String before;
+
+    // 변경 후 표현식 (H 토큰 포함, DB 저장 값)
+    private String after;
+
+    // 실제 Quartz 등록 표현식 (H 토큰 치환 결과)
+    private String expanded;
+}
@@ -0,0 +1,127 @@
+package com.example.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수동 실행(Run Now) 요청 1건의 실행 상태
+ * - POST /api/schedulers/run 응답으로 즉시 반환되고, GET /api/schedulers/run/{executionId} 로 조회
+ * - 같은 Job 중복 요청은 새 실행을 만들지 않고 이 객체에 합쳐짐(coalescedRequests 증가)
+ * 상태 흐름:
+ * QUEUED → TRIGGERED → RUNNING → COMPLETED / FAILED
+ * QUEUED → REJECTED (Job 없음, 중단 상태 등)
+ * QUEUED / TRIGGERED → FAILED (시작 기한 초과, 실행 전 Job 삭제/중단)
+ */
+@Getter
+public class RunExecution
+{
+    public enum Status
+    {
+        QUEUED, TRIGGERED, RUNNING, COMPLETED, FAILED, REJECTED
+    }
+
+    // 더 이상 변하지 않는 상태
+    private static final Set<Status> TERMINAL = EnumSet.of(Status.COMPLETED, Status.FAILED, Status.REJECTED);
+
+    private final String executionId;
+    private final String tenantId;
+    private final String jobName;
+    private final String jobGroup;
+    private final String idempotencyKey;
+    private final Instant requestedAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile Instant updatedAt;
+
+    // 이 실행에 합쳐진 중복 요청 수
+    private final AtomicInteger coalescedRequests = new AtomicInteger();
+
+    public RunExecution(String executionId, String tenantId, String jobName, String jobGroup, String idempotencyKey)
+    {
+        this.executionId = executionId;
+        this.tenantId = tenantId;
+        this.jobName = jobName;
+        this.jobGroup = jobGroup;
+        this.idempotencyKey = idempotencyKey;
+        this.requestedAt = Instant.now();
+        this.updatedAt = requestedAt;
+    }
+
+    /**
+     * 상태 전이 (앞으로만 진행)
+     * - Quartz 리스너 스레드와 디스패처 스레드가 동시에 갱신할 수 있으므로
+     *   이미 더 진행된 상태(예: RUNNING)를 이전 상태(TRIGGERED)로 되돌리지 않음
+     */
+    public synchronized void advance(Status next, String message)
+    {
+        if (isTerminal() || next.ordinal() <= status.ordinal())
+        {
+            return;
+        }
+        this.status = next;
+        this.message = message;
+        this.updatedAt = Instant.now();
+    }
+
+    public int getCoalescedRequests()
+    {
+        return coalescedRequests.get();
+    }
+
+    public void coalesce()
+    {
+        coalescedRequests.incrementAndGet();
+    }
+
+    public boolean isTerminal()
+    {
+        return TERMINAL.contains(status);
+    }
+
+    /**
+     * 아직 시작되지 않은(QUEUED / TRIGGERED) 실행을 실패 처리
+     * - Quartz 일회성 Trigger 가 삭제/중단되면 리스너 이벤트가 오지 않아 상태가 영원히 멈추므로 사용
+     * @return 실패 처리되었는지 여부
+     */
+    public synchronized boolean failIfNotStarted(String message)
+    {
+        if (status != Status.QUEUED && status != Status.TRIGGERED)
+        {
+            return false;
+        }
+        advance(Status.FAILED, message);
+        return true;
+    }
+
+    /**
+     * 시작 기한 초과 시 실패 처리 (마지막 상태 변경 후 timeoutMillis 동안 시작되지 않은 경우)
+     */
+    public void failIfStale(Instant now, long timeoutMillis)
+    {
+        if (updatedAt.plusMillis(timeoutMillis).isBefore(now))
+        {
+            failIfNotStarted("실행 시작 기한 초과");
+        }
+    }
+
+    /**
+     * 새 요청을 이 실행에 합칠 수 있는지 여부
+     * - 아직 시작 전(QUEUED / TRIGGERED)이면 합침
+     * - 실행 중 / 정상 완료는 요청 시각이 window 이내일 때만 합침
+     *   (window 이후 요청은 이미 시작된 실행이 반영하지 못하므로 새로 실행)
+     * - 거절/실패한 실행은 합치지 않음 (재시도 허용)
+     */
+    public boolean canCoalesce(Instant now, long windowMillis)
+    {
+        if (status == Status.REJECTED || status == Status.FAILED)
+        {
+            return false;
+        }
+        return status == Status.QUEUED || status == Status.TRIGGERED || requestedAt.plusMillis(windowMillis).isAfter(now);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * 스케줄러 상태 (GET /api/schedulers/health)
+ * - RUNNING 이 아니면 503 응답 → 로드밸런서/오케스트레이터가 트래픽 및 신규 작업 배치를 중단
+ * - STARTING: 웹 서버는 떴지만 DB Job 등록(SchedulerInitializer)이 끝나지 않은 상태 → 준비 전 트래픽 유입 방지
+ * - FAILED: DB Job 등록 실패 → 기동 실패로 애플리케이션 종료 (종료 전까지 503)
+ */
+@Data
+public class SchedulerHealth
+{
+    public enum State
+    {
+        STARTING, RUNNING, FAILED, DRAINING, DRAINED
+    }
+
+    private State state;
+
+    // 현재 실행 중인 Job 수
+    private int inFlightExecutions;
+
+    // 드레인 시작 시각 / 기한
+    private Instant drainStartedAt;
+    private Instant drainDeadline;
+
+    // 기한 초과로 중단(재실행 예약)된 실행 수
+    private int interruptedExecutions;
+}
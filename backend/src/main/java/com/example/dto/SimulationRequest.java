@@ -0,0 +1,37 @@
+package com.example.dto;
+
+import com.example.entity.SchedulerJob;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스케줄 시뮬레이션 요청 (POST /api/schedulers/simulate)
+ * - 본문 없이 호출하면 현재 등록된 전체 Job 기준으로 향후 24시간 시뮬레이션
+ */
+@Data
+public class SimulationRequest
+{
+    // 시뮬레이션 시작 시각 (null 이면 현재 시각)
+    private Instant start;
+
+    // 시뮬레이션 구간 (시간, 최대 7일)
+    private int windowHours = 24;
+
+    // Job 1회 평균 실행 시간 (초) - 동시 실행 수 계산에 사용
+    private int averageRunSeconds = 1;
+
+    // 반환할 혼잡 구간(초) 개수
+    private int topHotspots = 20;
+
+    // 반환할 분산 제안 최대 개수
+    private int maxSuggestions = 100;
+
+    // 현재 등록된 Job 포함 여부 (false 면 proposedJobs 만 시뮬레이션)
+    private boolean includeCatalog = true;
+
+    // 추가/변경 예정 Job (같은 테넌트 + 이름 + 그룹이면 기존 Job 대체)
+    private List<SchedulerJob> proposedJobs = new ArrayList<>();
+}
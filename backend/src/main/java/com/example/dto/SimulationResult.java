@@ -0,0 +1,84 @@
+package com.example.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스케줄 시뮬레이션 결과
+ * - 초 단위 실행 밀도, Quartz threadCount 대비 최대 동시 실행 수, 혼잡 구간, 분산(H 토큰) 제안
+ */
+@Data
+public class SimulationResult
+{
+    private Instant start;
+    private Instant end;
+    private int threadCount;
+    private int averageRunSeconds;
+
+    // 시뮬레이션 대상 Job 수 / 서로 다른 Cron 표현식 수
+    private int jobCount;
+    private int distinctExpressions;
+
+    // 간격(INTERVAL) Job 수 / 초당 실행 수 합계
+    // - Tick 엔진 워커에서 실행되므로 Quartz threadCount 용량 계산(아래 항목)에는 포함하지 않음
+    private int intervalJobs;
+    private double intervalFiresPerSecond;
+
+    // 구간 전체 실행 횟수 (Cron Job)
+    private long totalFires;
+
+    // 1초에 가장 많이 몰린 실행 수와 그 시각
+    private long peakFiresPerSecond;
+    private Instant peakFiresAt;
+
+    // 최대 동시 실행 수(평균 실행 시간 기준)와 그 시각
+    private long peakConcurrency;
+    private Instant peakConcurrencyAt;
+
+    // 동시 실행 수가 threadCount 를 넘는 초의 개수
+    private long secondsOverCapacity;
+
+    private List<Hotspot> hotspots = new ArrayList<>();
+    private List<Suggestion> suggestions = new ArrayList<>();
+
+    // Cron 표현식 오류로 제외된 Job ("그룹/이름: 오류")
+    private List<String> invalidJobs = new ArrayList<>();
+
+    private long elapsedMillis;
+
+    /**
+     * 실행이 몰린 1초 구간
+     */
+    @Data
+    public static class Hotspot
+    {
+        private Instant time;
+        private long fires;
+        private long concurrency;
+    }
+
+    /**
+     * 혼잡 구간 분산 제안 (POST /respread 가 저장할 표현식과 동일)
+     */
+    @Data
+    public static class Suggestion
+    {
+        private String jobName;
+        private String jobGroup;
+
+        // 현재 저장된 표현식
+        private String cronExpression;
+
+        // 걸린 혼잡 구간 (초)
+        private Instant hotspot;
+
+        // 제안 표현식 (H 토큰 포함, respread 저장 값)
+        private String suggestedCronExpression;
+
+        // 제안 표현식의 실제 Quartz 등록 표현식 (H 토큰 치환 결과)
+        private String expandedCronExpression;
+    }
+}
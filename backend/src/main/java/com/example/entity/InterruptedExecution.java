@@ -0,0 +1,47 @@
+package com.example.entity;
+
+import com.example.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드레인(Drain) 기한 내에 끝나지 않아 중단된 Job 실행 기록
+ * - 종료 중인 노드가 기록하고, 다음에 시작하는 노드가 한 번 재실행한 뒤 삭제
+ * - BaseEntity 상속: createdAt = 중단 시각
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(indexes = {
+    @Index(name = "ix_interrupted_execution_tenant_job", columnList = "tenantId, jobGroup, jobName")
+})
+@Data
+public class InterruptedExecution extends BaseEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("PK ID")
+    private Long id;
+
+    @Comment("테넌트 ID")
+    @Column(nullable = false, length = 64)
+    private String tenantId;
+
+    @Comment("스케줄러 Job 이름")
+    private String jobName;
+
+    @Comment("스케줄러 Job 그룹")
+    private String jobGroup;
+
+    @Comment("원래 예정 실행 시각")
+    private LocalDateTime scheduledFireTime;
+
+    @Comment("Quartz Fire Instance ID")
+    private String fireInstanceId;
+
+    @Comment("실행을 중단한 스케줄러 인스턴스 ID")
+    private String instanceId;
+}
@@ -1,17 +1,28 @@
 package com.example.entity;
 
 import com.example.common.entity.BaseEntity;
+import com.example.scheduler.JobParameterCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
+import java.util.Map;
+
 /**
  * 스케줄러 Job 정보 엔티티
  * - BaseEntity 상속: createdAt, updatedAt 자동 관리
+ * - tenantId 선행 인덱스: 테넌트 단위 조회/중복 검사가 다른 테넌트 Job 개수에 영향받지 않도록 구성
  */
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = {
+    @Index(name = "ux_scheduler_job_tenant_group_name", columnList = "tenantId, jobGroup, jobName", unique = true),
+    @Index(name = "ix_scheduler_job_tenant_status", columnList = "tenantId, status")
+})
 @Data
 public class SchedulerJob extends BaseEntity
 {
@@ -20,6 +31,11 @@ public class SchedulerJob extends BaseEntity
     @Comment("PK ID")
     private Long id;
 
+    @Comment("테넌트 ID (X-Tenant-Id 헤더, 기본 default)")
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 64)
+    private String tenantId;
+
     @Comment("스케줄러 Job 이름")
     private String jobName;
 
@@ -29,9 +45,62 @@ public class SchedulerJob extends BaseEntity
     @Comment("스케줄러 설명")
     private String description;
 
-    @Comment("스케줄러 실행 Cron 표현식")
+    @Comment("스케줄러 실행 Cron 표현식 (CRON 방식)")
     private String cronExpression;
 
+    @Comment("실행 방식 (CRON, INTERVAL)")
+    @ColumnDefault("'CRON'")
+    @Column(length = 16)
+    private String triggerType;
+
+    @Comment("실행 간격 ms (INTERVAL 방식)")
+    private Long intervalMillis;
+
+    @Comment("간격 기준 (FIXED_RATE: 시작 시각 기준, FIXED_DELAY: 종료 시각 기준)")
+    @Column(length = 16)
+    private String intervalMode;
+
+    @Comment("실행 초과 정책 (SKIP: 건너뜀, COALESCE: 밀린 실행 1회로 합침)")
+    @Column(length = 16)
+    private String overrunPolicy;
+
     @Comment("스케줄러 상태 (RUNNING, PAUSED)")
     private String status;
+
+    // 비밀 값이 포함될 수 있으므로 toString(로그)에서 제외
+    @JsonIgnore
+    @ToString.Exclude
+    @Comment("Job 파라미터 (키=타입:값&... 형식, JobParameterCodec)")
+    @Column(columnDefinition = "TEXT")
+    private String parameterData;
+
+    // 요청 본문에 parameters 가 있었는지 여부 (수정 시 빈 맵 {} = 전체 삭제, 항목 없음 = 기존 유지 구분용)
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean parametersProvided;
+
+    /**
+     * 간격(INTERVAL) 방식 여부 (null 이면 기존 CRON 방식)
+     */
+    @JsonIgnore
+    public boolean isIntervalTrigger()
+    {
+        return "INTERVAL".equalsIgnoreCase(triggerType);
+    }
+
+    /**
+     * Job 파라미터 (REST 입출력용, 저장은 parameterData 압축 문자열)
+     */
+    public Map<String, Object> getParameters()
+    {
+        return JobParameterCodec.decode(parameterData);
+    }
+
+    public void setParameters(Map<String, Object> parameters)
+    {
+        this.parameterData = JobParameterCodec.encode(parameters);
+        this.parametersProvided = true;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.repository;
+
+import com.example.entity.InterruptedExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * InterruptedExecution JPA Repository
+ */
+@Repository
+public interface InterruptedExecutionRepository extends JpaRepository<InterruptedExecution, Long>
+{
+    // 재실행 선점: 삭제에 성공한(1 반환) 노드만 재실행 → 여러 노드가 동시에 시작해도 한 번만 실행
+    @Modifying
+    @Transactional
+    @Query("delete from InterruptedExecution e where e.id = :id")
+    int claim(@Param("id") Long id);
+}
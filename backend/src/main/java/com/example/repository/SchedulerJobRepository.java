@@ -4,12 +4,20 @@ import com.example.entity.SchedulerJob;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * SchedulerJob JPA Repository
  */
 @Repository
 public interface SchedulerJobRepository extends JpaRepository<SchedulerJob, Long>
 {
-    // 나중에 이름 + 그룹으로 조회 가능
-    SchedulerJob findByJobNameAndJobGroup(String jobName, String jobGroup);
+    // 테넌트 + 이름 + 그룹으로 조회 (ux_scheduler_job_tenant_group_name 인덱스)
+    SchedulerJob findByTenantIdAndJobNameAndJobGroup(String tenantId, String jobName, String jobGroup);
+
+    // 테넌트 소속 Job 목록 조회
+    List<SchedulerJob> findAllByTenantId(String tenantId);
+
+    // 테넌트 소속 Job 개수 (쿼터 검사용)
+    long countByTenantId(String tenantId);
 }
@@ -1,24 +1,44 @@
 package com.example.scheduler;
 
-import org.quartz.Job;
+import org.quartz.InterruptableJob;
+import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Date;
+
 /**
  * Quartz 스케줄러에서 실행되는 실제 Job 클래스
  * 역할:
  * - Quartz 지정된 시간(Cron)마다 실행할 Job 정의
+ * - 간격(INTERVAL) Job 은 Tick 엔진 워커가 perform() 을 직접 호출 (Quartz 실행 경로 없음)
  * - 실행 시 로그를 기록하여 어떤 Job 언제 실행되었는지 확인
  * 특징:
  * - Spring Service 스케줄러 등록/중단/재개/삭제 기능과 분리
- * - 실제 수행할 작업 로직을 execute() 안에 작성
+ * - 실제 수행할 작업 로직을 perform() 안에 작성 (Cron / 간격 실행 공용)
+ * - InterruptableJob: 드레인 기한 초과 시 interrupt() 로 중단 요청을 받음
+ *   (긴 작업 로직은 isInterrupted() 또는 스레드 인터럽트 상태를 주기적으로 확인할 것)
  */
-public class DynamicJob implements Job
+public class DynamicJob implements InterruptableJob
 {
+    // JobDetail 데이터 키: Job 설명
+    public static final String DESCRIPTION_KEY = "description";
+
+    // Trigger 데이터 키: 수동 실행(Run Now) 실행 ID
+    public static final String RUN_NOW_EXECUTION_ID_KEY = "runNowExecutionId";
+
+    // Trigger 데이터 키: 드레인으로 중단되었다가 재실행되는 경우 원래 예정 시각
+    public static final String RECOVERED_FIRE_TIME_KEY = "recoveredFireTime";
+
     private static final Logger log = LoggerFactory.getLogger(DynamicJob.class);
 
+    // 중단 요청 여부 / 실행 중인 스레드 (Quartz 는 실행마다 새 Job 인스턴스 생성)
+    private volatile boolean interrupted;
+    private volatile Thread executingThread;
+
     /**
      * Job 실행 시 호출되는 메소드
      * @param context Quartz 제공하는 실행 컨텍스트
@@ -27,14 +47,59 @@ public class DynamicJob implements Job
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException
     {
-        // Job 이름과 설명 가져오기
-        String jobName = context.getJobDetail().getKey().getName();
-        String desc = context.getJobDetail().getDescription();
+        executingThread = Thread.currentThread();
+        try
+        {
+            // Job 이름과 설명 가져오기
+            String jobName = context.getJobDetail().getKey().getName();
+            String desc = context.getJobDetail().getDescription();
+
+            // Job 파라미터 (등록 시 JobParameterCodec 으로 디코딩된 값, 실행 시 추가 파싱 없음)
+            // 예: data.getIntValue("batchSize"), data.getBooleanValue("dryRun"), data.getString("target")
+            JobDataMap data = context.getMergedJobDataMap();
 
-        // 실행 시각 가져오기
-        log.info("Job 실행됨: {} - 설명: {} - 실행 시간: {}", jobName, desc, context.getFireTime());
+            // 실행 시각 가져오기 (파라미터 값에는 비밀 정보가 있을 수 있으므로 키만 기록)
+            log.info("Job 실행됨: {} - 설명: {} - 파라미터 키: {} - 실행 시간: {}", jobName, desc, data.keySet(), context.getFireTime());
+
+            perform(context.getJobDetail().getKey(), desc, data, context.getFireTime());
+        }
+        finally
+        {
+            // 실행이 끝난 뒤 들어온 중단 요청이 다른 Job 스레드를 인터럽트하지 않도록 해제
+            executingThread = null;
+        }
+    }
+
+    /**
+     * 실제 작업 로직 (Quartz 실행 / Tick 엔진 간격 실행 공용)
+     * - 간격 실행은 초당 수십~수백 회 호출될 수 있으므로 실행마다 INFO 로그를 남기지 않음
+     * @param data Job 파라미터 (간격 실행은 JobDetail JobDataMap)
+     */
+    public static void perform(JobKey jobKey, String description, JobDataMap data, Date fireTime)
+    {
+        log.debug("Job 작업 수행: {} - 실행 시간: {}", jobKey, fireTime);
 
         // TODO: 실제 수행할 작업 로직 작성 가능
         // 예: 이메일 발송, 배치 처리, 외부 API 호출 등
     }
+
+    /**
+     * 드레인 기한 초과 등으로 실행 중단 요청 시 호출
+     */
+    @Override
+    public void interrupt()
+    {
+        interrupted = true;
+        Thread thread = executingThread;
+        if (thread != null)
+        {
+            thread.interrupt();
+        }
+        log.warn("Job 중단 요청 수신");
+    }
+
+    public boolean isInterrupted()
+    {
+        return interrupted;
+    }
 }
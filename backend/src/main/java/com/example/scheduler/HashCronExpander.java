@@ -0,0 +1,163 @@
+package com.example.scheduler;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hash 분산 Cron 표현식("H" 토큰) 변환기
+ * Jenkins 스타일 H 토큰을 Job 고유 값으로 치환하여 Quartz 표현식으로 변환
+ * - H           : 필드 범위 내 고정 값             (예: 초 H → 37)
+ * - H/n         : 범위 내 시작값을 분산한 n 간격    (예: 분 H/15 → 7/15)
+ * - H(a-b)      : a~b 범위 내 고정 값               (예: 시 H(0-5) → 3)
+ * - H(a-b)/n    : a~b 범위 내 시작값을 분산한 n 간격 (예: 분 H(0-29)/10 → 4-29/10)
+ * 특징:
+ * - 값은 jobGroup + jobName 해시에서 필드별로 독립적으로 계산 → 재시작해도 항상 같은 실행 시각
+ * - 같은 "0 0 * * * ?" 습관으로 몰리던 Job 들이 범위 전체에 고르게 분산
+ * - DB 에는 H 포함 원본 표현식을 저장하고, CronTrigger 생성 시점에만 변환
+ */
+public final class HashCronExpander
+{
+    // 필드별 H 허용 범위: 초, 분, 시, 일(1~28, 월말 누락 방지), 월, 요일
+    private static final int[][] RANGES = {{0, 59}, {0, 59}, {0, 23}, {1, 28}, {1, 12}, {1, 7}};
+
+    private static final Pattern HASH_TOKEN = Pattern.compile("H(?:\\((\\d+)-(\\d+)\\))?(?:/(\\d+))?");
+
+    // 정각 고정 간격 (예: 0/15, */15) → H/15 로 재작성 대상
+    private static final Pattern ZERO_STEP = Pattern.compile("(?:0|\\*)/(\\d+)");
+
+    // 특정 시각 지정 시 필드 (예: 9, 9,18, 9-17) - 와일드카드/간격이 아닌 경우
+    private static final Pattern FIXED_HOUR = Pattern.compile("[\\d,-]+");
+
+    private HashCronExpander()
+    {
+    }
+
+    public static boolean hasHashToken(String expression)
+    {
+        return expression != null && expression.indexOf('H') >= 0;
+    }
+
+    /**
+     * H 토큰을 Job 고유 값으로 치환한 Quartz Cron 표현식 반환 (H 없으면 그대로)
+     * @throws IllegalArgumentException H 토큰 형식/범위가 잘못된 경우
+     */
+    public static String expand(String expression, String jobName, String jobGroup)
+    {
+        if (!hasHashToken(expression))
+        {
+            return expression;
+        }
+
+        String[] fields = expression.trim().split("\\s+");
+        int seed = (jobGroup + "." + jobName).hashCode();
+
+        for (int index = 0; index < fields.length; index++)
+        {
+            if (fields[index].indexOf('H') < 0)
+            {
+                continue;
+            }
+
+            // 쉼표로 나뉜 항목별 치환 (예: "H(0-29),H(30-59)"), 요일 이름(THU 등)은 그대로 유지
+            String[] parts = fields[index].split(",");
+            for (int p = 0; p < parts.length; p++)
+            {
+                if (!parts[p].startsWith("H"))
+                {
+                    continue;
+                }
+                if (index >= RANGES.length)
+                {
+                    throw new IllegalArgumentException("H 토큰을 사용할 수 없는 필드: " + expression);
+                }
+                parts[p] = expandPart(parts[p], RANGES[index], hash(seed, index * 31 + p), expression);
+            }
+            fields[index] = String.join(",", parts);
+        }
+        return String.join(" ", fields);
+    }
+
+    private static String expandPart(String part, int[] range, int hash, String expression)
+    {
+        Matcher matcher = HASH_TOKEN.matcher(part);
+        if (!matcher.matches())
+        {
+            throw new IllegalArgumentException("잘못된 H 토큰: " + part + " (" + expression + ")");
+        }
+
+        int min = range[0];
+        int max = range[1];
+        if (matcher.group(1) != null)
+        {
+            min = Integer.parseInt(matcher.group(1));
+            max = Integer.parseInt(matcher.group(2));
+            if (min < range[0] || max > range[1] || min > max)
+            {
+                throw new IllegalArgumentException("H 범위 오류: " + part + " (" + expression + ")");
+            }
+        }
+
+        if (matcher.group(3) == null)
+        {
+            // 고정 값
+            return String.valueOf(min + Math.floorMod(hash, max - min + 1));
+        }
+
+        int step = Integer.parseInt(matcher.group(3));
+        if (step <= 0)
+        {
+            throw new IllegalArgumentException("H 간격 오류: " + part + " (" + expression + ")");
+        }
+
+        // 시작값만 분산하고 간격은 유지
+        int start = min + Math.floorMod(hash, Math.min(step, max - min + 1));
+        return matcher.group(1) == null ? start + "/" + step : start + "-" + max + "/" + step;
+    }
+
+    /**
+     * 혼잡 유발 표현식을 H 토큰 표현식으로 재작성 (일괄 Respread 용)
+     * - 초 / 분 필드만 대상: "0" → "H", "0/n" 또는 "&#42;/n" → "H/n"
+     * - 예: "0 0 * * * ?" → "H H * * * ?", "0 0/15 * * * ?" → "H H/15 * * * ?"
+     * - 시 필드가 특정 시각(예: 9, 9,18, 9-17)이면 분은 유지하고 초만 분산 (예: "0 0 9 * * ?" → "H 0 9 * * ?")
+     * - 시 이상 필드는 실행 의미가 크게 달라지므로 변경하지 않음
+     * - 혼잡 여부는 판단하지 않음 → 호출 측에서 실제로 몰리는 표현식에만 적용할 것
+     * @return 재작성된 표현식 (대상 필드가 없으면 원본 그대로)
+     */
+    public static String respread(String expression)
+    {
+        if (expression == null)
+        {
+            return null;
+        }
+
+        String[] fields = expression.trim().split("\\s+");
+        boolean fixedHour = fields.length > 2 && FIXED_HOUR.matcher(fields[2]).matches();
+        for (int index = 0; index < Math.min(fixedHour ? 1 : 2, fields.length); index++)
+        {
+            Matcher matcher = ZERO_STEP.matcher(fields[index]);
+            if ("0".equals(fields[index]))
+            {
+                fields[index] = "H";
+            }
+            else if (matcher.matches())
+            {
+                fields[index] = "H/" + matcher.group(1);
+            }
+        }
+        return String.join(" ", fields);
+    }
+
+    /**
+     * 필드별 독립 해시 (MurmurHash3 fmix32)
+     */
+    private static int hash(int seed, int salt)
+    {
+        int h = seed + salt * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.scheduler;
+
+import org.quartz.JobDataMap;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Job 파라미터 직렬화 유틸리티
+ * 저장 형식 (SchedulerJob.parameterData):
+ * - "키=타입:값" 항목을 '&' 로 연결, 키와 값은 URL 인코딩
+ * - 타입: S(String), I(Integer), L(Long), D(Double), B(Boolean)
+ * - 예: batchSize=I:500&target=S:https%3A%2F%2Fexample.com&dryRun=B:false
+ * 사용 시점:
+ * - 스케줄 등록/파라미터 수정 시 1회 디코딩하여 JobDataMap 문자열 값으로 변환
+ * - Job 실행 시에는 JobDataMap 값을 그대로 사용 (JSON 파싱 없음)
+ * - JobDataMap 값은 모두 String → JDBCJobStore useProperties=true 와 호환,
+ *   숫자/불리언은 JobDataMap.getIntValue() / getBooleanValue() 등으로 바로 읽을 수 있음
+ * 예약 키:
+ * - 파라미터는 내부 값(description, 수동 실행 ID 등)과 같은 JobDataMap 을 공유하므로 내부 키는 파라미터로 사용 불가
+ */
+public final class JobParameterCodec
+{
+    private static final char ENTRY_SEPARATOR = '&';
+    private static final char KEY_SEPARATOR = '=';
+    private static final char TYPE_SEPARATOR = ':';
+
+    // 내부 용도로 예약된 JobDataMap 키
+    private static final Set<String> RESERVED_KEYS = Set.of(
+        DynamicJob.DESCRIPTION_KEY, DynamicJob.RUN_NOW_EXECUTION_ID_KEY, DynamicJob.RECOVERED_FIRE_TIME_KEY);
+
+    private JobParameterCodec()
+    {
+    }
+
+    /**
+     * 파라미터 → 저장 문자열 (비어 있으면 null)
+     * @throws IllegalArgumentException 지원하지 않는 값 타입(객체, 배열 등)이거나 예약 키일 때
+     */
+    public static String encode(Map<String, Object> parameters)
+    {
+        if (parameters == null || parameters.isEmpty())
+        {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Object> entry : parameters.entrySet())
+        {
+            if (isReserved(entry.getKey()))
+            {
+                throw new IllegalArgumentException("예약된 Job 파라미터 키: " + entry.getKey() + " (" + RESERVED_KEYS + ")");
+            }
+            if (entry.getValue() == null)
+            {
+                continue;
+            }
+            if (!builder.isEmpty())
+            {
+                builder.append(ENTRY_SEPARATOR);
+            }
+            builder.append(urlEncode(entry.getKey()))
+                .append(KEY_SEPARATOR)
+                .append(typeOf(entry.getKey(), entry.getValue()))
+                .append(TYPE_SEPARATOR)
+                .append(urlEncode(String.valueOf(entry.getValue())));
+        }
+        return builder.isEmpty() ? null : builder.toString();
+    }
+
+    /**
+     * 저장 문자열 → 타입이 복원된 파라미터
+     */
+    public static Map<String, Object> decode(String data)
+    {
+        if (data == null || data.isEmpty())
+        {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (String entry : data.split(String.valueOf(ENTRY_SEPARATOR)))
+        {
+            int keyEnd = entry.indexOf(KEY_SEPARATOR);
+            String key = urlDecode(entry.substring(0, keyEnd));
+            char type = entry.charAt(keyEnd + 1);
+            String value = urlDecode(entry.substring(keyEnd + 3));
+
+            parameters.put(key, switch (type)
+            {
+                case 'I' -> Integer.valueOf(value);
+                case 'L' -> Long.valueOf(value);
+                case 'D' -> Double.valueOf(value);
+                case 'B' -> Boolean.valueOf(value);
+                default -> value;
+            });
+        }
+        return parameters;
+    }
+
+    /**
+     * 저장 문자열 → JobDataMap (모든 값 String, 예약 키 검사 이전에 저장된 예약 키는 제외)
+     */
+    public static JobDataMap toJobDataMap(String data)
+    {
+        JobDataMap jobDataMap = new JobDataMap();
+        decode(data).forEach((key, value) ->
+        {
+            if (!isReserved(key))
+            {
+                jobDataMap.put(key, String.valueOf(value));
+            }
+        });
+        return jobDataMap;
+    }
+
+    /**
+     * 내부 용도로 예약된 키 여부
+     */
+    public static boolean isReserved(String key)
+    {
+        return RESERVED_KEYS.contains(key);
+    }
+
+    private static char typeOf(String key, Object value)
+    {
+        if (value instanceof String) return 'S';
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) return 'I';
+        if (value instanceof Long) return 'L';
+        if (value instanceof Double || value instanceof Float) return 'D';
+        if (value instanceof Boolean) return 'B';
+        throw new IllegalArgumentException("지원하지 않는 Job 파라미터 타입: " + key + " (" + value.getClass().getSimpleName() + ")");
+    }
+
+    private static String urlEncode(String value)
+    {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String urlDecode(String value)
+    {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.scheduler;
+
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+import org.quartz.utils.Key;
+
+import java.util.regex.Pattern;
+
+/**
+ * 테넌트(Tenant) 구분이 포함된 Quartz Key 생성 유틸리티
+ * - Quartz JobKey / TriggerKey 그룹 = "테넌트ID::Job 그룹"
+ * - 서로 다른 테넌트가 같은 jobName / jobGroup 사용해도 Quartz 안에서 충돌하지 않음
+ * - 실행 시점(리스너)에서 Key 만으로 테넌트를 역으로 알아낼 수 있음
+ */
+public final class TenantKeys
+{
+    // 테넌트 헤더가 없을 때 사용하는 기본 테넌트
+    public static final String DEFAULT_TENANT = "default";
+
+    // Quartz 그룹 문자열 안의 테넌트 / Job 그룹 구분자
+    public static final String SEPARATOR = "::";
+
+    // 허용 테넌트 ID 형식 (Quartz 그룹 / DB 인덱스 길이 고려)
+    private static final Pattern TENANT_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private TenantKeys()
+    {
+    }
+
+    /**
+     * 테넌트 ID 정규화 (빈 값 → 기본 테넌트)
+     * @throws IllegalArgumentException 허용되지 않는 형식일 때
+     */
+    public static String normalize(String tenantId)
+    {
+        if (tenantId == null || tenantId.isBlank())
+        {
+            return DEFAULT_TENANT;
+        }
+        if (!TENANT_PATTERN.matcher(tenantId).matches())
+        {
+            throw new IllegalArgumentException("잘못된 테넌트 ID: " + tenantId);
+        }
+        return tenantId;
+    }
+
+    public static String group(String tenantId, String jobGroup)
+    {
+        return tenantId + SEPARATOR + jobGroup;
+    }
+
+    public static JobKey jobKey(String tenantId, String jobName, String jobGroup)
+    {
+        return JobKey.jobKey(jobName, group(tenantId, jobGroup));
+    }
+
+    /**
+     * Trigger Key (트리거명은 기존과 동일하게 "작업명Trigger")
+     */
+    public static TriggerKey triggerKey(String tenantId, String jobName, String jobGroup)
+    {
+        return TriggerKey.triggerKey(jobName + "Trigger", group(tenantId, jobGroup));
+    }
+
+    /**
+     * Quartz Key 그룹에서 Job 그룹 추출 (구분자가 없으면 그룹 전체)
+     */
+    public static String jobGroupOf(Key<?> key)
+    {
+        String group = key.getGroup();
+        int index = group.indexOf(SEPARATOR);
+        return index < 0 ? group : group.substring(index + SEPARATOR.length());
+    }
+
+    /**
+     * Quartz Key 그룹에서 테넌트 ID 추출 (구분자가 없으면 기본 테넌트)
+     */
+    public static String tenantOf(Key<?> key)
+    {
+        String group = key.getGroup();
+        int index = group.indexOf(SEPARATOR);
+        return index < 0 ? DEFAULT_TENANT : group.substring(0, index);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.scheduler;
+
+import com.example.config.TenantQuotaProperties.Quota;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테넌트 1개의 실행 사용량 집계 (락 없이 CAS / LongAdder 만 사용)
+ * - 동시 실행 수: AtomicInteger CAS 로 쿼터 이내에서만 증가
+ * - 초당 실행 횟수: GCRA(Generic Cell Rate Algorithm) 방식 토큰 버킷, 다음 허용 시각 하나만 AtomicLong 으로 관리
+ * - 실행/거부 횟수: LongAdder (Quartz 워커 스레드 간 경합 최소화)
+ * - 쿼터 항목이 0 이하면 해당 검사 없이 통과 (동시 실행 수 / 실행 횟수 집계는 유지)
+ */
+public class TenantUsage
+{
+    // 거부 경고 로그 최소 간격 (ns)
+    private static final long VETO_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @Getter
+    private final String tenantId;
+
+    @Getter
+    private final Quota quota;
+
+    // 실행 1회당 간격 / 버스트 허용 범위 (ns)
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    // 다음 실행이 "이론상" 허용되는 시각 (System.nanoTime 기준)
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder vetoedByRate = new LongAdder();
+    private final LongAdder vetoedByConcurrency = new LongAdder();
+
+    // 마지막 거부 경고 로그 시각 (로그 폭주 방지)
+    private final AtomicLong lastVetoWarningNanos = new AtomicLong(System.nanoTime() - VETO_WARNING_INTERVAL_NANOS);
+
+    public TenantUsage(String tenantId, Quota quota)
+    {
+        this.tenantId = tenantId;
+        this.quota = quota;
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, quota.getMaxFiresPerSecond());
+        // 1초 분량(maxFiresPerSecond 회)까지 몰려서 실행되는 것을 허용
+        this.burstToleranceNanos = TimeUnit.SECONDS.toNanos(1) - emissionIntervalNanos;
+    }
+
+    /**
+     * 실행 슬롯 획득 (동시 실행 수 + 초당 실행 횟수 모두 통과해야 성공)
+     * @return 획득 성공 여부 - 성공 시 반드시 release() 호출
+     */
+    public boolean tryAcquire()
+    {
+        if (!tryIncrementRunning())
+        {
+            vetoedByConcurrency.increment();
+            return false;
+        }
+        if (!tryConsumeRate())
+        {
+            running.decrementAndGet();
+            vetoedByRate.increment();
+            return false;
+        }
+        fired.increment();
+        return true;
+    }
+
+    public void release()
+    {
+        running.decrementAndGet();
+    }
+
+    private boolean tryIncrementRunning()
+    {
+        while (true)
+        {
+            int current = running.get();
+            if (quota.getMaxConcurrentExecutions() > 0 && current >= quota.getMaxConcurrentExecutions())
+            {
+                return false;
+            }
+            if (running.compareAndSet(current, current + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    private boolean tryConsumeRate()
+    {
+        if (quota.getMaxFiresPerSecond() <= 0)
+        {
+            return true;
+        }
+        while (true)
+        {
+            long now = System.nanoTime();
+            long arrival = theoreticalArrivalNanos.get();
+            long base = arrival - now > 0 ? arrival : now;
+            if (base - now > burstToleranceNanos)
+            {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, base + emissionIntervalNanos))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 거부 경고 로그 출력 여부 (최대 10초에 1회 true, 나머지 거부는 누적 횟수로만 집계)
+     */
+    public boolean tryMarkVetoWarning()
+    {
+        long now = System.nanoTime();
+        long last = lastVetoWarningNanos.get();
+        return now - last >= VETO_WARNING_INTERVAL_NANOS && lastVetoWarningNanos.compareAndSet(last, now);
+    }
+
+    public int getRunningExecutions()
+    {
+        return running.get();
+    }
+
+    public long getFiredTotal()
+    {
+        return fired.sum();
+    }
+
+    public long getVetoedByRateTotal()
+    {
+        return vetoedByRate.sum();
+    }
+
+    public long getVetoedByConcurrencyTotal()
+    {
+        return vetoedByConcurrency.sum();
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 밀리초 간격(Interval) 실행 전용 Tick 엔진
+ * 구조:
+ * - 타이머 스레드 1개가 tickMillis 마다 해시 타이밍 휠(wheelSize 칸)의 한 칸만 확인
+ *   → 등록된 간격 작업 수와 무관하게 tick 당 비용은 만기 작업 수에만 비례 (Quartz Trigger 획득/DB 잠금 없음)
+ * - 만기 작업은 워커 스레드 풀로 넘기고, 타이머 스레드는 작업 로직을 직접 실행하지 않음
+ * - 휠 칸(bucket)은 타이머 스레드만 접근, 등록/재등록은 큐를 통해 전달 → 잠금 없음
+ * 실행 방식:
+ * - FIXED_RATE : 시작 시각 + k * 주기 (실행 시간과 무관, 밀림 누적 없음)
+ * - FIXED_DELAY: 이전 실행 종료 시각 + 주기
+ * 실행 초과(이전 실행이 아직 끝나지 않은 상태에서 다음 주기 도래, FIXED_RATE 만 해당):
+ * - SKIP    : 이번 주기 건너뜀
+ * - COALESCE: 밀린 주기를 1회로 합쳐 이전 실행 종료 직후 실행
+ * 해상도: 실행 시각은 tickMillis 단위로 올림 (주기는 tickMillis 이상이어야 함)
+ * 최대 주기: MAX_PERIOD_MILLIS (1일) - 더 긴 주기는 Cron 사용, nanoTime 기준 만기 시각 overflow 방지
+ */
+public class TickEngine
+{
+    // 최대 실행 주기 (ms)
+    public static final long MAX_PERIOD_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private static final Logger log = LoggerFactory.getLogger(TickEngine.class);
+
+    private final long tickMillis;
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<IntervalTask>> wheel;
+
+    // 등록/재등록 대기 작업 (다음 tick 에 휠로 옮김)
+    private final Queue<IntervalTask> additions = new ConcurrentLinkedQueue<>();
+
+    private final ExecutorService workers;
+    private final Thread timer;
+
+    // 워커에서 실행 중인 작업 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile boolean stopped;
+    private long startNanos;
+    private long tick;
+
+    /**
+     * @param tickMillis  tick 간격 (실행 시각 해상도)
+     * @param wheelSize   휠 칸 수 (2의 거듭제곱으로 올림)
+     * @param workerCount 작업 실행 워커 스레드 수
+     */
+    public TickEngine(long tickMillis, int wheelSize, int workerCount)
+    {
+        if (tickMillis <= 0 || wheelSize <= 0 || workerCount <= 0)
+        {
+            throw new IllegalArgumentException("Tick 엔진 설정 오류: tick " + tickMillis + "ms, wheel " + wheelSize + ", worker " + workerCount);
+        }
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = Math.max(size, 1) - 1;
+        this.wheel = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++)
+        {
+            wheel.add(new ArrayList<>());
+        }
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable ->
+        {
+            Thread thread = new Thread(runnable, "tick-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.timer = new Thread(this::runTimer, "tick-timer");
+        this.timer.setDaemon(true);
+    }
+
+    public void start()
+    {
+        startNanos = System.nanoTime();
+        timer.start();
+    }
+
+    /**
+     * 간격 작업 등록 (첫 실행은 한 주기 뒤)
+     * @return 취소용 핸들
+     * @throws IllegalArgumentException 주기가 tickMillis ~ MAX_PERIOD_MILLIS 범위를 벗어난 경우
+     * @throws IllegalStateException    엔진이 정지된 경우
+     */
+    public IntervalTask schedule(String name, long periodMillis, boolean fixedDelay, boolean coalesce, Runnable task)
+    {
+        if (periodMillis < tickMillis || periodMillis > MAX_PERIOD_MILLIS)
+        {
+            throw new IllegalArgumentException("간격 범위 오류: " + name + " - " + periodMillis + "ms (" + tickMillis + " ~ " + MAX_PERIOD_MILLIS + "ms)");
+        }
+        if (stopped)
+        {
+            throw new IllegalStateException("Tick 엔진 정지 상태: " + name);
+        }
+
+        IntervalTask intervalTask = new IntervalTask(name, TimeUnit.MILLISECONDS.toNanos(periodMillis), fixedDelay, coalesce, task);
+        intervalTask.deadline = System.nanoTime() + intervalTask.periodNanos;
+        additions.add(intervalTask);
+        return intervalTask;
+    }
+
+    /**
+     * 정지 여부 (정지 후에는 등록 불가)
+     */
+    public boolean isStopped()
+    {
+        return stopped;
+    }
+
+    /**
+     * 워커에서 실행 중인 작업 수
+     */
+    public int inFlight()
+    {
+        return inFlight.get();
+    }
+
+    /**
+     * tick 중단 (새 실행 없음, 실행 중인 작업은 계속 진행)
+     */
+    public void stop()
+    {
+        stopped = true;
+        LockSupport.unpark(timer);
+    }
+
+    /**
+     * tick 중단 + 실행 중인 작업 인터럽트
+     */
+    public void shutdownNow()
+    {
+        stop();
+        workers.shutdownNow();
+    }
+
+    // -----------------------------
+    // 타이머 스레드
+    // -----------------------------
+    private void runTimer()
+    {
+        while (!stopped)
+        {
+            // 다음 tick 시각까지 대기 (밀린 경우 대기 없이 연속 처리)
+            long tickAt = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = tickAt - System.nanoTime();
+            if (sleepNanos > 0)
+            {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            // 칸 기준 시각은 칸 시작 시각 (처리 시각 tickAt 을 쓰면 주기 == tick 인 작업의 다음 주기를 지난 것으로 보고 건너뜀)
+            transferAdditions();
+            expire(wheel.get((int) (tick & mask)), startNanos + tick * tickNanos);
+            tick++;
+        }
+        log.info("Tick 엔진 타이머 정지");
+    }
+
+    /**
+     * 등록 대기 작업을 만기 tick 칸에 배치 (휠 한 바퀴를 넘으면 남은 바퀴 수 기록)
+     */
+    private void transferAdditions()
+    {
+        IntervalTask task;
+        while ((task = additions.poll()) != null)
+        {
+            if (task.cancelled)
+            {
+                continue;
+            }
+            long deadlineTick = Math.max(ceilDiv(task.deadline - startNanos, tickNanos), tick);
+            task.remainingRounds = (deadlineTick - tick) / (mask + 1);
+            wheel.get((int) (deadlineTick & mask)).add(task);
+        }
+    }
+
+    /**
+     * 현재 칸 만기 작업 실행 (남은 바퀴가 있는 작업은 유지)
+     * @param slotAt 현재 칸 시작 시각 (이 시각 이전 주기만 지나간 것으로 봄)
+     */
+    private void expire(List<IntervalTask> bucket, long slotAt)
+    {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++)
+        {
+            IntervalTask task = bucket.get(i);
+            if (task.cancelled)
+            {
+                continue;
+            }
+            if (task.remainingRounds > 0)
+            {
+                task.remainingRounds--;
+                bucket.set(kept++, task);
+                continue;
+            }
+
+            if (!task.fixedDelay)
+            {
+                // FIXED_RATE: 다음 주기 예약 (타이머 지연으로 지나간 주기는 건너뜀)
+                task.deadline += task.periodNanos;
+                if (task.deadline <= slotAt)
+                {
+                    task.deadline += ((slotAt - task.deadline) / task.periodNanos + 1) * task.periodNanos;
+                }
+                additions.add(task);
+            }
+            fire(task);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * 워커로 실행 위임 (작업 당 동시 실행 1개)
+     */
+    private void fire(IntervalTask task)
+    {
+        if (task.coalesce)
+        {
+            // 실행 중이면 pending 만 남기고, 실행 중인 워커가 종료 직후 1회 더 실행
+            task.pending.set(true);
+            if (task.running.compareAndSet(false, true))
+            {
+                submit(task);
+            }
+        }
+        else if (task.running.compareAndSet(false, true))
+        {
+            task.pending.set(true);
+            submit(task);
+        }
+        else
+        {
+            log.debug("간격 실행 초과 → 건너뜀: {}", task.name);
+        }
+    }
+
+    private void submit(IntervalTask task)
+    {
+        try
+        {
+            workers.execute(() -> runTask(task));
+        }
+        catch (RejectedExecutionException e)
+        {
+            // 엔진 종료 중
+            task.running.set(false);
+        }
+    }
+
+    private void runTask(IntervalTask task)
+    {
+        inFlight.incrementAndGet();
+        try
+        {
+            do
+            {
+                while (task.pending.getAndSet(false) && !task.cancelled)
+                {
+                    try
+                    {
+                        task.task.run();
+                    }
+                    catch (RuntimeException e)
+                    {
+                        log.error("간격 작업 실행 오류: {} - {}", task.name, e.getMessage(), e);
+                    }
+                }
+                task.running.set(false);
+            }
+            // 종료 직전에 들어온 pending (COALESCE) 은 직접 이어서 실행
+            while (task.pending.get() && !task.cancelled && task.running.compareAndSet(false, true));
+
+            if (task.fixedDelay && !task.cancelled && !stopped)
+            {
+                // FIXED_DELAY: 종료 시각 기준 다음 실행 예약
+                task.deadline = System.nanoTime() + task.periodNanos;
+                additions.add(task);
+            }
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor)
+    {
+        return value <= 0 ? 0 : (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * 등록된 간격 작업 핸들
+     */
+    public static final class IntervalTask
+    {
+        private final String name;
+        private final long periodNanos;
+        private final boolean fixedDelay;
+        private final boolean coalesce;
+        private final Runnable task;
+
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        // 타이머 스레드 전용 (FIXED_DELAY 재등록 시에는 워커가 큐에 넣기 전에만 기록)
+        private long deadline;
+        private long remainingRounds;
+
+        private IntervalTask(String name, long periodNanos, boolean fixedDelay, boolean coalesce, Runnable task)
+        {
+            this.name = name;
+            this.periodNanos = periodNanos;
+            this.fixedDelay = fixedDelay;
+            this.coalesce = coalesce;
+            this.task = task;
+        }
+
+        /**
+         * 취소 (다음 만기 시 휠에서 제거, 실행 중인 작업은 끝까지 진행)
+         */
+        public void cancel()
+        {
+            cancelled = true;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+    }
+}
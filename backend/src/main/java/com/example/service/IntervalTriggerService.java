@@ -0,0 +1,254 @@
+package com.example.service;
+
+import com.example.entity.SchedulerJob;
+import com.example.scheduler.DynamicJob;
+import com.example.scheduler.TenantKeys;
+import com.example.scheduler.TenantUsage;
+import com.example.scheduler.TickEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IntervalTriggerService
+ * 밀리초 간격(INTERVAL) Job 을 TickEngine 으로 실행하는 서비스
+ * 주요 기능:
+ * - 간격 Job 설정 검증 / 기본값 적용 (주기, FIXED_RATE / FIXED_DELAY, SKIP / COALESCE)
+ * - Tick 엔진 등록 / 취소 (중단 = 취소, 재개 = 재등록)
+ * - 실행마다 테넌트 쿼터(초당 실행 / 동시 실행) 적용 후 DynamicJob 작업 로직 실행
+ * 특징:
+ * - Quartz 에는 Trigger 없는 durable JobDetail 만 등록 → Run Now / 파라미터 수정은 기존 경로 그대로 사용
+ * - 실행 시에는 등록 시점 JobDetail(파라미터)을 그대로 사용, Quartz Trigger 획득 과정 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class IntervalTriggerService
+{
+    public static final String TRIGGER_CRON = "CRON";
+    public static final String TRIGGER_INTERVAL = "INTERVAL";
+    public static final String MODE_FIXED_RATE = "FIXED_RATE";
+    public static final String MODE_FIXED_DELAY = "FIXED_DELAY";
+    public static final String OVERRUN_SKIP = "SKIP";
+    public static final String OVERRUN_COALESCE = "COALESCE";
+
+    private static final Logger log = LoggerFactory.getLogger(IntervalTriggerService.class);
+
+    private final TenantQuotaService tenantQuotaService;
+
+    // tick 간격 (ms) = 실행 시각 해상도 = 최소 주기
+    @Value("${scheduler.tick.tick-millis:10}")
+    private long tickMillis;
+
+    // 타이밍 휠 칸 수
+    @Value("${scheduler.tick.wheel-size:512}")
+    private int wheelSize;
+
+    // 간격 Job 실행 워커 스레드 수 (Quartz 스레드 풀과 별도)
+    @Value("${scheduler.tick.worker-count:4}")
+    private int workerCount;
+
+    private TickEngine engine;
+
+    // Job Key → 등록된 간격 실행 (실행 대상 JobDetail 포함)
+    private final Map<JobKey, Registration> registrations = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init()
+    {
+        engine = new TickEngine(tickMillis, wheelSize, workerCount);
+        engine.start();
+        log.info("Tick 엔진 시작: tick {}ms, wheel {}, worker {}", tickMillis, wheelSize, workerCount);
+    }
+
+    @PreDestroy
+    public void destroy()
+    {
+        engine.shutdownNow();
+    }
+
+    /**
+     * 실행 방식 검증 및 기본값 적용 (triggerType 없으면 CRON)
+     * @throws IllegalArgumentException 방식 / 주기(tickMillis ~ 1일) / 정책 값이 잘못되었거나 테넌트 초당 실행 쿼터를 넘는 주기일 때
+     */
+    public void validate(String tenantId, SchedulerJob job)
+    {
+        if (job.getTriggerType() == null || TRIGGER_CRON.equalsIgnoreCase(job.getTriggerType()))
+        {
+            job.setTriggerType(TRIGGER_CRON);
+            return;
+        }
+        if (!job.isIntervalTrigger())
+        {
+            throw new IllegalArgumentException("잘못된 triggerType: " + job.getTriggerType() + " (CRON / INTERVAL)");
+        }
+
+        job.setTriggerType(TRIGGER_INTERVAL);
+        if (job.getIntervalMillis() == null || job.getIntervalMillis() < tickMillis)
+        {
+            throw new IllegalArgumentException("간격(intervalMillis)은 " + tickMillis + "ms 이상이어야 합니다: " + job.getJobName());
+        }
+        if (job.getIntervalMillis() > TickEngine.MAX_PERIOD_MILLIS)
+        {
+            throw new IllegalArgumentException("간격(intervalMillis)은 " + TickEngine.MAX_PERIOD_MILLIS + "ms 이하여야 합니다 (더 긴 주기는 CRON 사용): " + job.getJobName());
+        }
+
+        // 주기만으로 테넌트 초당 실행 쿼터를 넘으면 대부분의 실행이 건너뛰어지므로 등록 거부
+        int maxFiresPerSecond = tenantQuotaService.quotaOf(tenantId).getMaxFiresPerSecond();
+        if (maxFiresPerSecond > 0 && 1000.0 / job.getIntervalMillis() > maxFiresPerSecond)
+        {
+            throw new IllegalArgumentException("간격이 테넌트 초당 실행 쿼터(" + maxFiresPerSecond + "회)를 넘습니다: " + job.getJobName());
+        }
+
+        job.setIntervalMode(valueOrDefault(job.getIntervalMode(), MODE_FIXED_RATE, MODE_FIXED_DELAY, "intervalMode"));
+        job.setOverrunPolicy(valueOrDefault(job.getOverrunPolicy(), OVERRUN_SKIP, OVERRUN_COALESCE, "overrunPolicy"));
+    }
+
+    /**
+     * Tick 엔진 등록 가능 여부 확인 (DB / Quartz 변경 전에 호출)
+     * @throws SchedulerDrainingException 드레인으로 Tick 이 중단된 경우
+     */
+    public void checkAccepting(SchedulerJob job)
+    {
+        if (engine.isStopped())
+        {
+            throw new SchedulerDrainingException("스케줄러 드레인 중 → 간격 Job 등록/재개 불가: " + job.getJobName());
+        }
+    }
+
+    /**
+     * Tick 엔진 등록 (이미 등록되어 있으면 교체)
+     * @throws SchedulerDrainingException checkAccepting 이후 드레인이 시작되어 Tick 이 중단된 경우
+     */
+    public void schedule(JobDetail jobDetail, SchedulerJob job)
+    {
+        JobKey jobKey = jobDetail.getKey();
+        Registration registration = new Registration(jobDetail);
+        try
+        {
+            registration.task = engine.schedule(jobKey.toString(), job.getIntervalMillis(),
+                MODE_FIXED_DELAY.equals(job.getIntervalMode()), OVERRUN_COALESCE.equals(job.getOverrunPolicy()),
+                () -> execute(registration));
+        }
+        catch (IllegalStateException e)
+        {
+            throw new SchedulerDrainingException("스케줄러 드레인 중 → 간격 Job 등록/재개 불가: " + job.getJobName());
+        }
+
+        Registration previous = registrations.put(jobKey, registration);
+        if (previous != null)
+        {
+            previous.task.cancel();
+        }
+        log.info("간격 Job 등록: {} - {}ms {} / {}", jobKey, job.getIntervalMillis(), job.getIntervalMode(), job.getOverrunPolicy());
+    }
+
+    /**
+     * Tick 엔진 등록 취소 (중단 / 삭제 / 수정 시, 등록되어 있지 않으면 무시)
+     */
+    public void cancel(JobKey jobKey)
+    {
+        Registration registration = registrations.remove(jobKey);
+        if (registration != null)
+        {
+            registration.task.cancel();
+            log.info("간격 Job 취소: {}", jobKey);
+        }
+    }
+
+    /**
+     * 파라미터 수정 등으로 교체된 JobDetail 반영 (다음 실행부터 적용)
+     */
+    public void refresh(JobDetail jobDetail)
+    {
+        Registration registration = registrations.get(jobDetail.getKey());
+        if (registration != null)
+        {
+            registration.jobDetail = jobDetail;
+        }
+    }
+
+    /**
+     * Tick 중단 (드레인 시작 시, 실행 중인 간격 Job 은 계속 진행)
+     */
+    public void stopTicking()
+    {
+        engine.stop();
+    }
+
+    /**
+     * 실행 중인 간격 Job 인터럽트 (드레인 기한 초과 시)
+     */
+    public void interruptAll()
+    {
+        engine.shutdownNow();
+    }
+
+    /**
+     * 실행 중인 간격 Job 수
+     */
+    public int inFlight()
+    {
+        return engine.inFlight();
+    }
+
+    /**
+     * 워커 스레드에서 1회 실행 (테넌트 쿼터 초과 시 건너뜀)
+     */
+    private void execute(Registration registration)
+    {
+        JobDetail jobDetail = registration.jobDetail;
+        TenantUsage usage = tenantQuotaService.usageOf(TenantKeys.tenantOf(jobDetail.getKey()));
+        if (!usage.tryAcquire())
+        {
+            tenantQuotaService.warnVetoed(usage, jobDetail.getKey());
+            return;
+        }
+
+        try
+        {
+            DynamicJob.perform(jobDetail.getKey(), jobDetail.getDescription(), jobDetail.getJobDataMap(), new Date());
+        }
+        finally
+        {
+            usage.release();
+        }
+    }
+
+    private static String valueOrDefault(String value, String defaultValue, String other, String field)
+    {
+        if (value == null || value.isBlank())
+        {
+            return defaultValue;
+        }
+        String upper = value.toUpperCase();
+        if (!upper.equals(defaultValue) && !upper.equals(other))
+        {
+            throw new IllegalArgumentException("잘못된 " + field + ": " + value + " (" + defaultValue + " / " + other + ")");
+        }
+        return upper;
+    }
+
+    /**
+     * 등록된 간격 실행 (JobDetail 은 파라미터 수정 시 교체)
+     */
+    private static final class Registration
+    {
+        private volatile JobDetail jobDetail;
+        private TickEngine.IntervalTask task;
+
+        private Registration(JobDetail jobDetail)
+        {
+            this.jobDetail = jobDetail;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.service;
+
+import com.example.dto.RunExecution;
+import com.example.dto.RunExecution.Status;
+import com.example.scheduler.DynamicJob;
+import com.example.scheduler.TenantKeys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.quartz.*;
+import org.quartz.listeners.JobListenerSupport;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RunNowService
+ * 수동 실행(Run Now) 요청 큐
+ * 주요 기능:
+ * - 요청 스레드(서블릿)에서는 실행 ID만 발급하고 즉시 반환, DB 조회/Quartz 실행 요청은 별도 디스패처 스레드에서 처리
+ * - Idempotency-Key 동일한 재요청은 기존 실행을 그대로 반환
+ * - 같은 Job 대한 요청이 아직 시작 전(QUEUED / TRIGGERED)이거나 coalesce window 이내면 하나의 실행으로 합침
+ *   (window 가 지난 뒤 이미 실행 중인 Job 에 들어온 요청은 새 실행으로 접수)
+ * - Quartz JobListener 통해 실제 실행 시작/종료 상태까지 추적
+ * - 시작 기한(start-timeout-ms) 초과 또는 실행 전 Job 삭제/중단 시 FAILED 처리 → 멈춘 실행에 요청이 계속 합쳐지지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class RunNowService
+{
+    // Trigger JobDataMap 에 실어 보내는 실행 ID 키
+    public static final String EXECUTION_ID_KEY = DynamicJob.RUN_NOW_EXECUTION_ID_KEY;
+
+    private static final Logger log = LoggerFactory.getLogger(RunNowService.class);
+
+    private final Scheduler scheduler;
+    private final SchedulerService schedulerService;
+    private final SchedulerDrainService drainService;
+
+    // 같은 Job 중복 요청을 합치는 시간 (ms)
+    @Value("${scheduler.run-now.coalesce-window-ms:5000}")
+    private long coalesceWindowMillis;
+
+    // 종료된 실행 / Idempotency-Key 보관 시간 (ms)
+    @Value("${scheduler.run-now.retention-ms:600000}")
+    private long retentionMillis;
+
+    // 접수(QUEUED) / Trigger 등록(TRIGGERED) 후 실행이 시작되지 않으면 실패 처리하는 기한 (ms)
+    @Value("${scheduler.run-now.start-timeout-ms:300000}")
+    private long startTimeoutMillis;
+
+    // 실행 ID → 실행 상태
+    private final Map<String, RunExecution> executions = new ConcurrentHashMap<>();
+
+    // 테넌트 + Idempotency-Key → 실행 상태
+    private final Map<IdempotencyKey, RunExecution> executionsByIdempotencyKey = new ConcurrentHashMap<>();
+
+    // Job 별 가장 최근 실행 (중복 요청 합치기 기준)
+    private final Map<JobKey, RunExecution> latestByJob = new ConcurrentHashMap<>();
+
+    // 디스패처(실행 요청) + 만료 정리 스레드
+    private final ScheduledExecutorService dispatcher = Executors.newScheduledThreadPool(2);
+
+    @PostConstruct
+    public void init() throws SchedulerException
+    {
+        // 실제 Job 실행 시작/종료 시 실행 상태 갱신
+        scheduler.getListenerManager().addJobListener(new ExecutionTrackingListener());
+
+        // Job 삭제/중단 시 대기 중인 실행 정리
+        scheduler.getListenerManager().addSchedulerListener(new JobRemovalListener());
+
+        // 시작 기한 초과 실행 실패 처리 + 오래된 실행 기록 주기적 정리
+        dispatcher.scheduleWithFixedDelay(this::evictExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown()
+    {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 수동 실행 요청 접수 (즉시 반환)
+     * @param idempotencyKey 클라이언트 재시도 식별 키 (null 가능, 테넌트 단위로 구분)
+     * @return 새로 생성되었거나 합쳐진 실행 상태
+     * @throws IllegalStateException 같은 Idempotency-Key 가 다른 Job 실행에 이미 사용된 경우
+     */
+    public RunExecution submit(String tenantId, String jobName, String jobGroup, String idempotencyKey)
+    {
+        Instant now = Instant.now();
+        JobKey jobKey = TenantKeys.jobKey(tenantId, jobName, jobGroup);
+        RunExecution candidate = new RunExecution(UUID.randomUUID().toString(), tenantId, jobName, jobGroup, idempotencyKey);
+
+        RunExecution execution = idempotencyKey == null
+            ? resolve(jobKey, candidate, now)
+            : executionsByIdempotencyKey.computeIfAbsent(new IdempotencyKey(tenantId, idempotencyKey),
+                key -> resolve(jobKey, candidate, now));
+
+        if (execution != candidate)
+        {
+            if (!execution.getJobName().equals(jobName) || !execution.getJobGroup().equals(jobGroup))
+            {
+                throw new IllegalStateException("Idempotency-Key 가 다른 Job 실행에 이미 사용됨: " + idempotencyKey);
+            }
+
+            // 중복 요청 → 기존 실행에 합침
+            execution.coalesce();
+            log.info("수동 실행 요청 합쳐짐: {} / {} → {}", jobName, jobGroup, execution.getExecutionId());
+            return execution;
+        }
+
+        executions.put(candidate.getExecutionId(), candidate);
+
+        // 드레인 중에는 Trigger 획득이 멈춰 있어 실행되지 않으므로 즉시 거절 (다른 노드로 재시도 유도)
+        if (drainService.isDraining())
+        {
+            candidate.advance(Status.REJECTED, "스케줄러 드레인 중");
+            return candidate;
+        }
+
+        dispatcher.execute(() -> dispatch(candidate));
+        log.info("수동 실행 요청 접수: {} / {} → {}", jobName, jobGroup, candidate.getExecutionId());
+        return candidate;
+    }
+
+    /**
+     * 실행 상태 조회 (다른 테넌트 실행은 조회 불가)
+     */
+    public Optional<RunExecution> getExecution(String tenantId, String executionId)
+    {
+        return Optional.ofNullable(executions.get(executionId))
+            .filter(execution -> execution.getTenantId().equals(tenantId));
+    }
+
+    /**
+     * Job 최근 실행이 아직 합칠 수 있는 상태면 그 실행을, 아니면 새 실행(candidate)을 등록
+     */
+    private RunExecution resolve(JobKey jobKey, RunExecution candidate, Instant now)
+    {
+        return latestByJob.compute(jobKey, (key, previous) ->
+        {
+            if (previous == null)
+            {
+                return candidate;
+            }
+            // 시작 기한이 지난 실행은 먼저 실패 처리 (합치지 않음)
+            previous.failIfStale(now, startTimeoutMillis);
+            return previous.canCoalesce(now, coalesceWindowMillis) ? previous : candidate;
+        });
+    }
+
+    /**
+     * 디스패처 스레드: DB 상태 확인 후 Quartz 실행 요청
+     */
+    private void dispatch(RunExecution execution)
+    {
+        try
+        {
+            JobDataMap jobData = new JobDataMap();
+            jobData.put(EXECUTION_ID_KEY, execution.getExecutionId());
+
+            if (schedulerService.runJobNow(execution.getTenantId(), execution.getJobName(), execution.getJobGroup(), jobData))
+            {
+                execution.advance(Status.TRIGGERED, null);
+            }
+            else
+            {
+                execution.advance(Status.REJECTED, "Job 없음 또는 중단 상태");
+            }
+        }
+        catch (SchedulerException | RuntimeException e)
+        {
+            log.warn("수동 실행 요청 실패: {} / {} - {}", execution.getJobName(), execution.getJobGroup(), e.getMessage());
+            execution.advance(Status.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 기한 초과 실행 실패 처리 + 종료 후 보관 시간이 지난 실행 기록 정리
+     */
+    private void evictExpired()
+    {
+        Instant now = Instant.now();
+        executions.values().forEach(execution -> execution.failIfStale(now, startTimeoutMillis));
+
+        Instant threshold = now.minusMillis(retentionMillis);
+        executions.values().removeIf(execution -> isExpired(execution, threshold));
+        executionsByIdempotencyKey.values().removeIf(execution -> isExpired(execution, threshold));
+        latestByJob.values().removeIf(execution -> isExpired(execution, threshold));
+    }
+
+    private static boolean isExpired(RunExecution execution, Instant threshold)
+    {
+        return execution.isTerminal() && execution.getUpdatedAt().isBefore(threshold);
+    }
+
+    /**
+     * Idempotency-Key 저장 키 (테넌트 단위로 구분)
+     */
+    private record IdempotencyKey(String tenantId, String key)
+    {
+    }
+
+    /**
+     * Job 삭제(수정 포함) / 중단 시 해당 Job 의 시작 전 실행 실패 처리
+     * - 삭제: 일회성 Trigger 도 함께 삭제되어 실행되지 않음
+     * - 중단: 일회성 Trigger 도 중단되고, 재개는 주기 Trigger 만 다시 등록하므로 실행되지 않음
+     */
+    private class JobRemovalListener extends SchedulerListenerSupport
+    {
+        @Override
+        public void jobDeleted(JobKey jobKey)
+        {
+            forget(jobKey, "실행 전 Job 삭제됨");
+        }
+
+        @Override
+        public void jobPaused(JobKey jobKey)
+        {
+            forget(jobKey, "실행 전 Job 중단됨");
+        }
+
+        private void forget(JobKey jobKey, String message)
+        {
+            RunExecution latest = latestByJob.remove(jobKey);
+            if (latest != null && latest.failIfNotStarted(message))
+            {
+                log.info("수동 실행 취소: {} - {} ({})", jobKey, latest.getExecutionId(), message);
+            }
+        }
+    }
+
+    /**
+     * Trigger 데이터에 실행 ID가 있는 Job 실행 시작/종료를 실행 상태에 반영
+     */
+    private class ExecutionTrackingListener extends JobListenerSupport
+    {
+        @Override
+        public String getName()
+        {
+            return "run-now-execution-tracker";
+        }
+
+        @Override
+        public void jobToBeExecuted(JobExecutionContext context)
+        {
+            find(context).ifPresent(execution -> execution.advance(Status.RUNNING, null));
+        }
+
+        @Override
+        public void jobExecutionVetoed(JobExecutionContext context)
+        {
+            find(context).ifPresent(execution -> execution.advance(Status.REJECTED, "실행 거부됨(veto)"));
+        }
+
+        @Override
+        public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException)
+        {
+            find(context).ifPresent(execution -> execution.advance(
+                jobException == null ? Status.COMPLETED : Status.FAILED,
+                jobException == null ? null : jobException.getMessage()));
+        }
+
+        private Optional<RunExecution> find(JobExecutionContext context)
+        {
+            Object executionId = context.getTrigger().getJobDataMap().get(EXECUTION_ID_KEY);
+            return executionId == null ? Optional.empty() : Optional.ofNullable(executions.get(executionId.toString()));
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.service;
+
+import com.example.config.SchedulerConfig;
+import com.example.dto.SimulationRequest;
+import com.example.dto.SimulationResult;
+import com.example.entity.SchedulerJob;
+import com.example.repository.SchedulerJobRepository;
+import com.example.scheduler.HashCronExpander;
+import com.example.scheduler.TenantKeys;
+import lombok.RequiredArgsConstructor;
+import org.quartz.CronExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+/**
+ * ScheduleSimulationService
+ * 실제 스케줄 변경 없이(Dry-run) 향후 실행 시각을 계산하여 용량 문제를 미리 확인하는 서비스
+ * 주요 기능:
+ * - 현재 Job 카탈로그 + 변경 예정 Job 기준으로 구간 내 초 단위 실행 밀도 계산
+ * - Quartz threadCount 대비 최대 동시 실행 수 / 용량 초과 구간 산출
+ * - 간격(INTERVAL) Job 은 Tick 엔진 워커에서 실행되므로 초당 실행 수 합계만 별도 집계
+ * - 혼잡 구간에 걸린 Job 대한 분산 제안 (Respread 와 같은 H 토큰 재작성 규칙, 같은 결과)
+ * 성능:
+ * - 같은 Cron 표현식은 한 번만 컴파일/계산하고 Job 수만큼 가중치로 반영
+ * - 서로 다른 표현식은 병렬 스트림으로 계산, 초 단위 카운터는 AtomicIntegerArray 공유
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleSimulationService
+{
+    // 최대 시뮬레이션 구간 (7일)
+    private static final int MAX_WINDOW_HOURS = 24 * 7;
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleSimulationService.class);
+
+    private final SchedulerJobRepository jobRepository;
+    private final SchedulerConfig schedulerConfig;
+
+    /**
+     * 시뮬레이션 실행
+     * - 실행 밀도/용량은 스레드 풀을 공유하는 전체 테넌트 기준으로 계산
+     * - 분산 제안은 요청 테넌트 소속 Job 대해서만 반환
+     */
+    public SimulationResult simulate(String tenantId, SimulationRequest request)
+    {
+        long startedNanos = System.nanoTime();
+
+        Instant start = (request.getStart() == null ? Instant.now() : request.getStart()).truncatedTo(ChronoUnit.SECONDS);
+        int windowSeconds = Math.min(Math.max(request.getWindowHours(), 1), MAX_WINDOW_HOURS) * 3600;
+        int runSeconds = Math.max(1, request.getAverageRunSeconds());
+        int threadCount = schedulerConfig.getThreadCount();
+
+        SimulationResult result = new SimulationResult();
+        result.setStart(start);
+        result.setEnd(start.plusSeconds(windowSeconds));
+        result.setThreadCount(threadCount);
+        result.setAverageRunSeconds(runSeconds);
+
+        // 1️⃣ 시뮬레이션 대상 Job 수집 (중단 상태 제외, 변경 예정 Job 으로 대체)
+        Map<String, SchedulerJob> jobs = new LinkedHashMap<>();
+        if (request.isIncludeCatalog())
+        {
+            for (SchedulerJob job : jobRepository.findAll())
+            {
+                merge(jobs, job);
+            }
+        }
+        for (SchedulerJob proposed : request.getProposedJobs())
+        {
+            proposed.setTenantId(tenantId);
+            merge(jobs, proposed);
+        }
+
+        // 2️⃣ Cron 표현식 별로 묶기 (H 토큰은 실제 등록과 동일하게 Job 고유 값으로 치환한 뒤 묶음)
+        Queue<String> invalidJobs = new ConcurrentLinkedQueue<>();
+        Map<String, List<SchedulerJob>> jobsByExpression = new HashMap<>();
+        for (SchedulerJob job : jobs.values())
+        {
+            if (job.isIntervalTrigger())
+            {
+                if (job.getIntervalMillis() == null || job.getIntervalMillis() <= 0)
+                {
+                    invalidJobs.add(job.getJobGroup() + "/" + job.getJobName() + ": 실행 간격 없음");
+                    continue;
+                }
+                result.setIntervalJobs(result.getIntervalJobs() + 1);
+                result.setIntervalFiresPerSecond(result.getIntervalFiresPerSecond() + 1000.0 / job.getIntervalMillis());
+                continue;
+            }
+            if (job.getCronExpression() == null)
+            {
+                invalidJobs.add(job.getJobGroup() + "/" + job.getJobName() + ": Cron 표현식 없음");
+                continue;
+            }
+            try
+            {
+                String expression = HashCronExpander.expand(job.getCronExpression(), job.getJobName(), job.getJobGroup());
+                jobsByExpression.computeIfAbsent(expression, k -> new ArrayList<>()).add(job);
+            }
+            catch (IllegalArgumentException e)
+            {
+                invalidJobs.add(job.getJobGroup() + "/" + job.getJobName() + ": " + e.getMessage());
+            }
+        }
+        result.setJobCount(jobs.size());
+        result.setDistinctExpressions(jobsByExpression.size());
+
+        // 3️⃣ 표현식 별 실행 시각 병렬 계산 → 초 단위 실행 수 누적
+        AtomicIntegerArray fires = new AtomicIntegerArray(windowSeconds);
+        Map<String, CronExpression> compiled = new ConcurrentHashMap<>();
+        jobsByExpression.entrySet().parallelStream().forEach(entry ->
+        {
+            CronExpression cron = compile(entry.getKey(), entry.getValue(), invalidJobs);
+            if (cron != null)
+            {
+                compiled.put(entry.getKey(), cron);
+                accumulate(cron, entry.getValue().size(), start, windowSeconds, fires);
+            }
+        });
+
+        // 4️⃣ 실행 밀도 / 동시 실행 수 (실행 시간 runSeconds 슬라이딩 윈도우)
+        long[] concurrency = new long[windowSeconds];
+        long running = 0;
+        long totalFires = 0;
+        int peakFiresIndex = 0;
+        int peakConcurrencyIndex = 0;
+        long secondsOverCapacity = 0;
+        for (int i = 0; i < windowSeconds; i++)
+        {
+            int current = fires.get(i);
+            running += current - (i >= runSeconds ? fires.get(i - runSeconds) : 0);
+            concurrency[i] = running;
+            totalFires += current;
+
+            if (current > fires.get(peakFiresIndex)) peakFiresIndex = i;
+            if (running > concurrency[peakConcurrencyIndex]) peakConcurrencyIndex = i;
+            if (running > threadCount) secondsOverCapacity++;
+        }
+        result.setTotalFires(totalFires);
+        result.setPeakFiresPerSecond(fires.get(peakFiresIndex));
+        result.setPeakFiresAt(start.plusSeconds(peakFiresIndex));
+        result.setPeakConcurrency(concurrency[peakConcurrencyIndex]);
+        result.setPeakConcurrencyAt(start.plusSeconds(peakConcurrencyIndex));
+        result.setSecondsOverCapacity(secondsOverCapacity);
+
+        // 5️⃣ 혼잡 구간 상위 N개
+        List<Integer> hotspotIndexes = topIndexes(fires, Math.max(0, request.getTopHotspots()));
+        for (int index : hotspotIndexes)
+        {
+            SimulationResult.Hotspot hotspot = new SimulationResult.Hotspot();
+            hotspot.setTime(start.plusSeconds(index));
+            hotspot.setFires(fires.get(index));
+            hotspot.setConcurrency(concurrency[index]);
+            result.getHotspots().add(hotspot);
+        }
+
+        // 6️⃣ 용량 초과 혼잡 구간에 걸린 요청 테넌트 Job 분산 제안
+        result.setSuggestions(suggest(tenantId, jobsByExpression, compiled, result.getHotspots(),
+            threadCount, Math.max(0, request.getMaxSuggestions())));
+
+        result.setInvalidJobs(new ArrayList<>(invalidJobs));
+        result.setElapsedMillis((System.nanoTime() - startedNanos) / 1_000_000);
+
+        log.info("스케줄 시뮬레이션 완료: Job {}개 / 표현식 {}개 / 실행 {}회 / 최대 동시 실행 {} (threadCount {}) - {}ms",
+            result.getJobCount(), result.getDistinctExpressions(), totalFires, result.getPeakConcurrency(),
+            threadCount, result.getElapsedMillis());
+        return result;
+    }
+
+    private static void merge(Map<String, SchedulerJob> jobs, SchedulerJob job)
+    {
+        String key = TenantKeys.jobKey(TenantKeys.normalize(job.getTenantId()), job.getJobName(), job.getJobGroup()).toString();
+        if ("PAUSED".equalsIgnoreCase(job.getStatus()))
+        {
+            jobs.remove(key);
+        }
+        else
+        {
+            jobs.put(key, job);
+        }
+    }
+
+    private static CronExpression compile(String expression, List<SchedulerJob> jobs, Queue<String> invalidJobs)
+    {
+        try
+        {
+            return new CronExpression(expression);
+        }
+        catch (ParseException e)
+        {
+            for (SchedulerJob job : jobs)
+            {
+                invalidJobs.add(job.getJobGroup() + "/" + job.getJobName() + ": " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 구간 내 실행 시각을 초 단위 카운터에 누적 (같은 표현식 Job 수만큼 가중치)
+     */
+    private static void accumulate(CronExpression cron, int weight, Instant start, int windowSeconds, AtomicIntegerArray fires)
+    {
+        long startMillis = start.toEpochMilli();
+        long endMillis = startMillis + windowSeconds * 1000L;
+
+        // getTimeAfter 는 "이후" 시각을 반환하므로 시작 시각 포함을 위해 1ms 앞에서 시작
+        Date next = cron.getTimeAfter(new Date(startMillis - 1));
+        while (next != null && next.getTime() < endMillis)
+        {
+            fires.addAndGet((int) ((next.getTime() - startMillis) / 1000), weight);
+            next = cron.getTimeAfter(next);
+        }
+    }
+
+    /**
+     * 실행 수 상위 N개 초 (실행 수 내림차순)
+     */
+    private static List<Integer> topIndexes(AtomicIntegerArray fires, int limit)
+    {
+        if (limit == 0)
+        {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Comparator.comparingInt(fires::get));
+        for (int i = 0; i < fires.length(); i++)
+        {
+            if (fires.get(i) == 0)
+            {
+                continue;
+            }
+            if (heap.size() < limit)
+            {
+                heap.add(i);
+            }
+            else if (fires.get(i) > fires.get(heap.peek()))
+            {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(heap);
+        indexes.sort(Comparator.comparingInt(fires::get).reversed().thenComparing(Comparator.naturalOrder()));
+        return indexes;
+    }
+
+    /**
+     * 용량 초과 혼잡 구간 분산 제안
+     * - POST /respread 와 같은 기준: 같은 실행 시각을 2개 이상 Job 이 공유하는 표현식만 대상
+     * - 제안 표현식 = 저장된 표현식의 H 토큰 재작성 (HashCronExpander.respread), 실제 값은 Job 해시로 치환
+     * - 재작성할 필드가 없는 Job(이미 H 토큰, 초가 0 이 아닌 고정 값 등)은 제안하지 않음
+     */
+    private static List<SimulationResult.Suggestion> suggest(String tenantId,
+                                                              Map<String, List<SchedulerJob>> jobsByExpression,
+                                                              Map<String, CronExpression> compiled,
+                                                              List<SimulationResult.Hotspot> hotspots,
+                                                              int threadCount, int maxSuggestions)
+    {
+        List<SimulationResult.Hotspot> overloaded = hotspots.stream()
+            .filter(hotspot -> hotspot.getConcurrency() > threadCount)
+            .toList();
+        if (overloaded.isEmpty() || maxSuggestions == 0)
+        {
+            return new ArrayList<>();
+        }
+
+        // 요청 테넌트 Job 이 있는 표현식 중 혼잡 구간에 실행되는 것 (표현식 단위 병렬 검사)
+        Map<String, SimulationResult.Hotspot> hotspotByExpression = jobsByExpression.entrySet().parallelStream()
+            .filter(entry -> compiled.containsKey(entry.getKey()))
+            .filter(entry -> entry.getValue().stream().anyMatch(job -> tenantId.equals(TenantKeys.normalize(job.getTenantId()))))
+            .map(entry -> Map.entry(entry.getKey(), overloaded.stream()
+                .filter(hotspot -> compiled.get(entry.getKey()).isSatisfiedBy(Date.from(hotspot.getTime())))
+                .findFirst()))
+            .filter(entry -> entry.getValue().isPresent())
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+
+        List<SimulationResult.Suggestion> suggestions = new ArrayList<>();
+        for (Map.Entry<String, SimulationResult.Hotspot> entry : hotspotByExpression.entrySet())
+        {
+            SimulationResult.Hotspot hotspot = entry.getValue();
+            if (jobsByExpression.get(entry.getKey()).size() < 2)
+            {
+                // 혼자 쓰는 실행 시각은 respread 대상 아님
+                continue;
+            }
+
+            for (SchedulerJob job : jobsByExpression.get(entry.getKey()))
+            {
+                if (suggestions.size() >= maxSuggestions)
+                {
+                    return suggestions;
+                }
+                if (!tenantId.equals(TenantKeys.normalize(job.getTenantId())))
+                {
+                    continue;
+                }
+
+                String suggested = HashCronExpander.respread(job.getCronExpression());
+                if (suggested == null || suggested.equals(job.getCronExpression()))
+                {
+                    continue;
+                }
+
+                SimulationResult.Suggestion suggestion = new SimulationResult.Suggestion();
+                suggestion.setJobName(job.getJobName());
+                suggestion.setJobGroup(job.getJobGroup());
+                suggestion.setCronExpression(job.getCronExpression());
+                suggestion.setHotspot(hotspot.getTime());
+                suggestion.setSuggestedCronExpression(suggested);
+                suggestion.setExpandedCronExpression(HashCronExpander.expand(suggested, job.getJobName(), job.getJobGroup()));
+                suggestions.add(suggestion);
+            }
+        }
+        return suggestions;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.service;
+
+import com.example.dto.SchedulerHealth;
+import com.example.dto.SchedulerHealth.State;
+import com.example.entity.InterruptedExecution;
+import com.example.repository.InterruptedExecutionRepository;
+import com.example.scheduler.TenantKeys;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * SchedulerDrainService
+ * 배포/종료 시 실행 중인 Job 정리(Drain) 라이프사이클
+ * 기동: STARTING(health 503) → DB Job 등록 완료 시 SchedulerInitializer 가 markReady() 호출 → RUNNING
+ *       등록 실패 시 markFailed() → FAILED(health 503), 기동 실패로 종료
+ * 순서:
+ * 1. standby(): 새 Trigger 획득 중단 (JDBCJobStore 클러스터면 다른 노드가 이어받음) + 간격 Job Tick 중단
+ * 2. 상태 DRAINING → /api/schedulers/health 503 응답
+ * 3. 실행 중인 Job 완료를 scheduler.drain.timeout-seconds 까지 대기
+ * 4. 기한 초과 실행은 InterruptedExecution 으로 기록 후 interrupt → 다음에 시작하는 노드가 재실행
+ *    (간격 Job 실행은 다음 노드에서 주기 실행이 이어지므로 기록 없이 interrupt 만 수행)
+ * 호출 시점:
+ * - 애플리케이션 종료(SIGTERM) 시 SmartLifecycle.stop() 에서만 시작 (웹 서버보다 먼저 멈춤 → 드레인 중에도 health 조회 가능)
+ * - 되돌릴 수 없는 상태 전환이므로 테넌트 API 로는 노출하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerDrainService implements SmartLifecycle
+{
+    // 실행 중 Job 확인 주기 (ms)
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerDrainService.class);
+
+    private final Scheduler scheduler;
+    private final InterruptedExecutionRepository interruptedExecutionRepository;
+    private final IntervalTriggerService intervalTriggerService;
+
+    // 실행 중 Job 완료 대기 기한 (초)
+    @Value("${scheduler.drain.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    private volatile State state = State.STARTING;
+    private volatile Instant drainStartedAt;
+    private volatile Instant drainDeadline;
+    private volatile int interruptedExecutions;
+    private volatile boolean running;
+
+    /**
+     * 드레인 중 여부 (신규 수동 실행 접수 거절 등에 사용)
+     */
+    public boolean isDraining()
+    {
+        return state == State.DRAINING || state == State.DRAINED;
+    }
+
+    /**
+     * 기동 완료 (DB Job 등록 후 호출, 이미 드레인이 시작되었으면 무시)
+     */
+    public synchronized void markReady()
+    {
+        if (state == State.STARTING)
+        {
+            state = State.RUNNING;
+            log.info("스케줄러 준비 완료: health 200 응답 시작");
+        }
+    }
+
+    /**
+     * 기동 실패 (DB Job 등록 실패 시 호출, 이미 드레인이 시작되었으면 무시)
+     */
+    public synchronized void markFailed()
+    {
+        if (state == State.STARTING)
+        {
+            state = State.FAILED;
+            log.error("스케줄러 기동 실패: health 503 유지");
+        }
+    }
+
+    /**
+     * 현재 상태 조회
+     */
+    public SchedulerHealth health()
+    {
+        SchedulerHealth health = new SchedulerHealth();
+        health.setState(state);
+        health.setDrainStartedAt(drainStartedAt);
+        health.setDrainDeadline(drainDeadline);
+        health.setInterruptedExecutions(interruptedExecutions);
+        try
+        {
+            health.setInFlightExecutions((scheduler.isShutdown() ? 0 : scheduler.getCurrentlyExecutingJobs().size())
+                + intervalTriggerService.inFlight());
+        }
+        catch (SchedulerException e)
+        {
+            health.setInFlightExecutions(-1);
+        }
+        return health;
+    }
+
+    /**
+     * 드레인 실행 (기한까지 블로킹)
+     */
+    public synchronized void drain()
+    {
+        if (isDraining())
+        {
+            return;
+        }
+
+        drainStartedAt = Instant.now();
+        drainDeadline = drainStartedAt.plusSeconds(timeoutSeconds);
+        state = State.DRAINING;
+
+        try
+        {
+            // 1️⃣ 새 Trigger 획득 중단 (실행 중인 Job 은 계속 진행)
+            scheduler.standby();
+            intervalTriggerService.stopTicking();
+            log.info("스케줄러 드레인 시작: 실행 중 {}개, 간격 실행 중 {}개, 기한 {}초", scheduler.getCurrentlyExecutingJobs().size(),
+                intervalTriggerService.inFlight(), timeoutSeconds);
+
+            // 2️⃣ 실행 중 Job 완료 대기
+            List<JobExecutionContext> inFlight = scheduler.getCurrentlyExecutingJobs();
+            while ((!inFlight.isEmpty() || intervalTriggerService.inFlight() > 0) && Instant.now().isBefore(drainDeadline))
+            {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+                inFlight = scheduler.getCurrentlyExecutingJobs();
+            }
+
+            // 기한 초과 간격 실행 중단
+            if (intervalTriggerService.inFlight() > 0)
+            {
+                log.warn("드레인 기한 초과 → 간격 실행 {}개 중단", intervalTriggerService.inFlight());
+                intervalTriggerService.interruptAll();
+            }
+
+            // 3️⃣ 기한 초과 실행 기록 후 중단
+            for (JobExecutionContext context : inFlight)
+            {
+                try
+                {
+                    recordAndInterrupt(context);
+                }
+                catch (SchedulerException | RuntimeException e)
+                {
+                    log.error("실행 중단 실패: {} - {}", context.getJobDetail().getKey(), e.getMessage());
+                }
+            }
+            log.info("스케줄러 드레인 완료: 중단된 실행 {}개", interruptedExecutions);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            log.warn("스케줄러 드레인 대기 중 인터럽트 발생");
+        }
+        catch (SchedulerException e)
+        {
+            log.error("스케줄러 드레인 중 오류 발생: {}", e.getMessage());
+        }
+        finally
+        {
+            state = State.DRAINED;
+        }
+    }
+
+    private void recordAndInterrupt(JobExecutionContext context) throws SchedulerException
+    {
+        JobKey jobKey = context.getJobDetail().getKey();
+
+        InterruptedExecution execution = new InterruptedExecution();
+        execution.setTenantId(TenantKeys.tenantOf(jobKey));
+        execution.setJobName(jobKey.getName());
+        execution.setJobGroup(TenantKeys.jobGroupOf(jobKey));
+        execution.setScheduledFireTime(context.getScheduledFireTime() == null ? null
+            : LocalDateTime.ofInstant(context.getScheduledFireTime().toInstant(), ZoneId.systemDefault()));
+        execution.setFireInstanceId(context.getFireInstanceId());
+        execution.setInstanceId(scheduler.getSchedulerInstanceId());
+
+        // 재실행 기록을 먼저 남긴 뒤 중단 (중단 후 기록 실패로 실행이 유실되지 않도록)
+        interruptedExecutionRepository.save(execution);
+        scheduler.interrupt(context.getFireInstanceId());
+        interruptedExecutions++;
+
+        log.warn("드레인 기한 초과 → 실행 중단, 다음 노드에서 재실행 예정: {}", jobKey);
+    }
+
+    // -----------------------------
+    // SmartLifecycle: 종료 시 자동 드레인
+    // -----------------------------
+    @Override
+    public void start()
+    {
+        running = true;
+    }
+
+    @Override
+    public void stop()
+    {
+        drain();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    // 가장 먼저 stop (웹 서버 graceful shutdown 보다 먼저 → 드레인 중에도 health 조회 가능)
+    @Override
+    public int getPhase()
+    {
+        return DEFAULT_PHASE;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.service;
+
+/**
+ * 드레인 중이라 요청을 받을 수 없음 (503 응답, 다른 노드로 재시도 가능)
+ * - 상태 충돌(409)과 구분하기 위해 IllegalStateException 하위 예외로 분리
+ */
+public class SchedulerDrainingException extends IllegalStateException
+{
+    public SchedulerDrainingException(String message)
+    {
+        super(message);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.service;
 
+import com.example.dto.CronRespread;
 import com.example.entity.SchedulerJob;
 import com.example.repository.SchedulerJobRepository;
 import com.example.scheduler.DynamicJob;
+import com.example.scheduler.HashCronExpander;
+import com.example.scheduler.JobParameterCodec;
+import com.example.scheduler.TenantKeys;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.quartz.*;
@@ -10,7 +14,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 /**
  * SchedulerService
@@ -18,6 +27,7 @@ import java.util.List;
  * 주요 기능:
  * - 스케줄러 작업(Job) 등록, 조회, 수정, 삭제
  * - 스케줄러 작업의 실행, 중단, 재개 제어
+ * - 실행 방식 분기: CRON → Quartz CronTrigger, INTERVAL → Tick 엔진 (Quartz 에는 Trigger 없는 JobDetail 만 등록)
  * - 데이터베이스와 Quartz 스케줄러 간의 동기화
  * - 모든 작업에 대한 로깅 처리
  * 사용된 기술:
@@ -37,6 +47,12 @@ public class SchedulerService
     // JPA 통해 SchedulerJob 엔티티의 CRUD 작업을 처리
     private final SchedulerJobRepository jobRepository;
 
+    // 테넌트별 쿼터(Job 개수 등) 검사
+    private final TenantQuotaService tenantQuotaService;
+
+    // 밀리초 간격(INTERVAL) Job 실행 (Tick 엔진)
+    private final IntervalTriggerService intervalTriggerService;
+
     // 로그 기록을 위한 Logger 객체
     // SLF4J를 사용하여 클래스별로 구분된 로그를 생성
     private static final Logger log = LoggerFactory.getLogger(SchedulerService.class);
@@ -45,11 +61,32 @@ public class SchedulerService
     // 1️⃣ 스케줄러 등록 메서드
     // 새로운 작업을 Quartz 스케줄러와 데이터베이스에 등록
     // -----------------------------
-    public SchedulerJob createJob(SchedulerJob job) throws SchedulerException
+    public SchedulerJob createJob(String tenantId, SchedulerJob job) throws SchedulerException
+    {
+        // 같은 테넌트 등록은 직렬화 → Job 개수 검사와 저장 사이에 다른 등록이 끼어들어 쿼터를 넘지 않도록
+        Lock lock = tenantQuotaService.jobQuotaLock(tenantId);
+        lock.lock();
+        try
+        {
+            return registerJob(tenantId, job);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록 본체 (테넌트 Job 개수 잠금 안에서 호출)
+     */
+    private SchedulerJob registerJob(String tenantId, SchedulerJob job) throws SchedulerException
     {
+        // 요청 테넌트로 소속 고정 (본문 tenantId 무시)
+        job.setTenantId(tenantId);
+
         // 중복 작업 검사: 동일한 작업명과 그룹을 가진 작업이 이미 존재하는지 확인
-        // 작업의 고유성을 보장하기 위해 jobName jobGroup 조합으로 중복을 체크
-        SchedulerJob exists = jobRepository.findByJobNameAndJobGroup(job.getJobName(), job.getJobGroup());
+        // 작업의 고유성을 보장하기 위해 tenantId + jobName + jobGroup 조합으로 중복을 체크
+        SchedulerJob exists = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, job.getJobName(), job.getJobGroup());
         if (exists != null)
         {
             // 중복된 작업이 발견되면 IllegalArgumentException 던져서 등록을 중단
@@ -57,25 +94,45 @@ public class SchedulerService
             throw new IllegalArgumentException("동일한 Job 이미 존재합니다: " + job.getJobName());
         }
 
+        // 테넌트 Job 개수 쿼터 검사 (초과 시 IllegalArgumentException)
+        tenantQuotaService.checkJobQuota(tenantId, jobRepository.countByTenantId(tenantId));
+
+        // 실행 방식(CRON / INTERVAL) 검증 및 기본값 적용
+        intervalTriggerService.validate(tenantId, job);
+        if (job.isIntervalTrigger() && !"PAUSED".equals(job.getStatus()))
+        {
+            // 드레인 중이면 Quartz / DB 변경 전에 거절 (SchedulerDrainingException → 503)
+            intervalTriggerService.checkAccepting(job);
+        }
+
         // JobDetail 생성: Quartz 실제 실행될 작업의 상세 정보를 정의
         JobDetail jobDetail = JobBuilder.newJob(DynamicJob.class) // DynamicJob 클래스를 실제 실행할 작업으로 지정
-            .withIdentity(job.getJobName(), job.getJobGroup()) // JobKey 설정: 작업명과 그룹으로 고유 식별자 생성
+            .withIdentity(TenantKeys.jobKey(tenantId, job.getJobName(), job.getJobGroup())) // JobKey 설정: 테넌트 + 작업명 + 그룹으로 고유 식별자 생성
             .withDescription(job.getDescription())            // 작업에 대한 설명 정보 추가
+            .usingJobData(JobParameterCodec.toJobDataMap(job.getParameterData())) // Job 파라미터 (등록 시 1회 디코딩)
             .storeDurably()                                   // Trigger 없어도 Job 스케줄러에 유지 (내구성 보장)
             .build(); // JobDetail 객체 생성 완료
 
-        // Trigger 생성: 작업이 언제 실행될지를 정의하는 트리거 설정
-        Trigger trigger = TriggerBuilder.newTrigger()
-            .forJob(jobDetail)                                // 위에서 생성한 JobDetail 연결
-            .withIdentity(job.getJobName() + "Trigger", job.getJobGroup()) // 트리거 이름: "작업명Trigger" + 그룹
-            .withSchedule(CronScheduleBuilder.cronSchedule(job.getCronExpression()) // Cron 표현식으로 실행 스케줄 설정
-                .withMisfireHandlingInstructionDoNothing() // Misfire 처리: 놓친 실행은 무시하고 다음 스케줄까지 대기
-            )
-            .build(); // Trigger 객체 생성 완료
-
-        // Quartz Scheduler Job Trigger 함께 등록
-        // 이 시점부터 설정된 Cron 표현식에 따라 작업이 자동 실행됨
-        scheduler.scheduleJob(jobDetail, trigger);
+        if (job.isIntervalTrigger())
+        {
+            // 간격 Job: Trigger 없이 JobDetail 만 등록 (Run Now / 파라미터 수정용), 주기 실행은 Tick 엔진 담당
+            scheduler.addJob(jobDetail, false);
+        }
+        else
+        {
+            // Trigger 생성: 작업이 언제 실행될지를 정의하는 트리거 설정
+            Trigger trigger = TriggerBuilder.newTrigger()
+                .forJob(jobDetail)                                // 위에서 생성한 JobDetail 연결
+                .withIdentity(TenantKeys.triggerKey(tenantId, job.getJobName(), job.getJobGroup())) // 트리거 이름: "작업명Trigger" + 테넌트 그룹
+                .withSchedule(CronScheduleBuilder.cronSchedule(expandCron(job)) // Cron 표현식으로 실행 스케줄 설정 (H 토큰 치환)
+                    .withMisfireHandlingInstructionDoNothing() // Misfire 처리: 놓친 실행은 무시하고 다음 스케줄까지 대기
+                )
+                .build(); // Trigger 객체 생성 완료
+
+            // Quartz Scheduler Job Trigger 함께 등록
+            // 이 시점부터 설정된 Cron 표현식에 따라 작업이 자동 실행됨
+            scheduler.scheduleJob(jobDetail, trigger);
+        }
 
         // 데이터베이스 저장을 위한 기본 상태 설정
         // 상태가 지정되지 않은 경우 기본값으로 "RUNNING"을 설정
@@ -85,10 +142,16 @@ public class SchedulerService
         // JPA Repository 통해 SchedulerJob 엔티티를 저장하고 생성된 ID 등을 받아옴
         SchedulerJob savedJob = jobRepository.save(job);
 
+        // 간격 Job 은 DB 저장 후 Tick 엔진 등록 (PAUSED 로 등록하면 재개 시 시작)
+        if (job.isIntervalTrigger() && !"PAUSED".equals(job.getStatus()))
+        {
+            intervalTriggerService.schedule(jobDetail, job);
+        }
+
         // 작업 등록 완료에 대한 정보 로그 기록
         // 디버깅과 운영 모니터링을 위한 상세 정보 포함
-        log.info("Job 등록됨: {} - 그룹: {} - 설명: {} - 상태: {}", job.getJobName(), job.getJobGroup(),
-            job.getDescription(), job.getStatus());
+        log.info("Job 등록됨: {} - 그룹: {} - 테넌트: {} - 설명: {} - 상태: {}", job.getJobName(), job.getJobGroup(),
+            tenantId, job.getDescription(), job.getStatus());
 
         // 데이터베이스에 저장된 작업 객체를 반환 (생성된 ID 포함)
         return savedJob;
@@ -96,17 +159,17 @@ public class SchedulerService
 
     // -----------------------------
     // 2️⃣ 모든 스케줄러 조회 메서드
-    // 데이터베이스에 저장된 모든 작업 정보를 조회하여 반환
+    // 데이터베이스에 저장된 테넌트 소속 작업 정보를 조회하여 반환
     // -----------------------------
-    public List<SchedulerJob> getAllJobs()
+    public List<SchedulerJob> getAllJobs(String tenantId)
     {
-        // JPA Repository 통해 데이터베이스의 모든 SchedulerJob 레코드 조회
-        // findAll() 메서드는 테이블의 모든 행을 List<SchedulerJob>로 반환
-        List<SchedulerJob> jobs = jobRepository.findAll();
+        // JPA Repository 통해 해당 테넌트의 SchedulerJob 레코드만 조회
+        // (tenantId 선행 인덱스 사용 → 다른 테넌트 Job 개수와 무관)
+        List<SchedulerJob> jobs = jobRepository.findAllByTenantId(tenantId);
 
         // 조회된 작업 개수를 포함한 정보 로그 기록
         // 시스템 상태 모니터링과 디버깅에 유용한 정보 제공
-        log.info("모든 Job 조회: 총 {}개", jobs.size());
+        log.info("모든 Job 조회: 테넌트 {} - 총 {}개", tenantId, jobs.size());
 
         // 조회된 작업 목록을 호출자에게 반환
         return jobs;
@@ -115,18 +178,29 @@ public class SchedulerService
     // -----------------------------
     // 3️⃣ 수동 실행 메서드 (Run Now)
     // 지정된 작업을 즉시 실행 (스케줄과 무관하게 강제 실행)
+    // REST 요청은 RunNowService 큐를 거쳐 비동기로 이 메서드를 호출
     // -----------------------------
-    public void runJobNow(String jobName, String jobGroup) throws SchedulerException
+    public boolean runJobNow(String tenantId, String jobName, String jobGroup) throws SchedulerException
+    {
+        return runJobNow(tenantId, jobName, jobGroup, null);
+    }
+
+    /**
+     * 수동 실행 (실행 추적용 JobDataMap 전달)
+     * @param jobData 이번 실행에만 적용되는 Trigger 데이터 (null 가능)
+     * @return 실제로 Quartz 실행 요청을 보냈는지 여부 (Job 없음/중단 상태면 false)
+     */
+    public boolean runJobNow(String tenantId, String jobName, String jobGroup, JobDataMap jobData) throws SchedulerException
     {
         // 데이터베이스에서 해당 작업 정보 조회
         // 작업명과 그룹으로 식별하여 실제 존재하는 작업인지 확인
-        SchedulerJob job = jobRepository.findByJobNameAndJobGroup(jobName, jobGroup);
+        SchedulerJob job = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, jobName, jobGroup);
         if (job == null)
         {
             // 작업이 존재하지 않는 경우 경고 로그 기록 후 메서드 종료
             // 예외를 던지지 않고 조용히 실패 처리 (운영상 안정성 고려)
             log.warn("수동 실행 실패: Job 없음 - {} / {}", jobName, jobGroup);
-            return;
+            return false;
         }
 
         // 작업 상태 확인: PAUSED(중단) 상태인 작업은 수동 실행하지 않음
@@ -135,32 +209,37 @@ public class SchedulerService
         {
             // 중단된 작업의 실행 시도에 대한 경고 로그 기록
             log.warn("수동 실행 실패: Job 중단 상태 - {} / {}", jobName, jobGroup);
-            return;
+            return false;
         }
 
         // Quartz Scheduler 즉시 실행 명령 전송
         // triggerJob() 메서드는 스케줄과 무관하게 작업을 즉시 실행
         // JobKey 작업을 식별하여 실행 요청
-        scheduler.triggerJob(JobKey.jobKey(jobName, jobGroup));
+        scheduler.triggerJob(TenantKeys.jobKey(tenantId, jobName, jobGroup), jobData);
 
         // 수동 실행 완료에 대한 정보 로그 기록
         log.info("Job 수동 실행됨: {} - 그룹: {}", jobName, jobGroup);
+        return true;
     }
 
     // -----------------------------
     // 4️⃣ 작업 삭제 메서드
     // Quartz 스케줄러와 데이터베이스에서 작업을 완전히 제거
     // -----------------------------
-    public void deleteJob(String jobName, String jobGroup) throws SchedulerException
+    public void deleteJob(String tenantId, String jobName, String jobGroup) throws SchedulerException
     {
         // Quartz Scheduler 작업 삭제
         // deleteJob() 메서드는 해당 작업과 연결된 모든 트리거도 함께 삭제
         // JobKey 삭제할 작업을 식별
-        scheduler.deleteJob(JobKey.jobKey(jobName, jobGroup));
+        JobKey jobKey = TenantKeys.jobKey(tenantId, jobName, jobGroup);
+        scheduler.deleteJob(jobKey);
+
+        // 간격 Job 이면 Tick 엔진 등록도 취소
+        intervalTriggerService.cancel(jobKey);
 
         // 데이터베이스에서도 해당 작업 정보 삭제
         // 먼저 작업을 조회한 후 존재하는 경우에만 삭제 처리
-        SchedulerJob job = jobRepository.findByJobNameAndJobGroup(jobName, jobGroup);
+        SchedulerJob job = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, jobName, jobGroup);
         if (job != null) {
             // JPA Repository 통해 데이터베이스에서 작업 레코드 삭제
             jobRepository.delete(job);
@@ -174,18 +253,21 @@ public class SchedulerService
     // 5️⃣ 작업 중단 메서드 (Pause)
     // 작업의 실행을 일시적으로 중단 (삭제하지 않고 실행만 멈춤)
     // -----------------------------
-    public void pauseJob(String jobName, String jobGroup) throws SchedulerException
+    public void pauseJob(String tenantId, String jobName, String jobGroup) throws SchedulerException
     {
         // 중단할 작업의 고유 식별자 생성
-        // JobKey 작업명과 그룹의 조합으로 작업을 고유하게 식별
-        JobKey jobKey = JobKey.jobKey(jobName, jobGroup);
+        // JobKey 테넌트 + 작업명 + 그룹의 조합으로 작업을 고유하게 식별
+        JobKey jobKey = TenantKeys.jobKey(tenantId, jobName, jobGroup);
 
         // Quartz Scheduler 해당 작업을 중단 상태로 변경
         // pauseJob() 메서드는 작업을 삭제하지 않고 실행만 일시 정지
         scheduler.pauseJob(jobKey);
 
+        // 간격 Job 은 Trigger 가 없으므로 Tick 엔진 등록 취소로 중단 (재개 시 재등록)
+        intervalTriggerService.cancel(jobKey);
+
         // 데이터베이스의 작업 상태도 동기화하여 업데이트
-        SchedulerJob job = jobRepository.findByJobNameAndJobGroup(jobName, jobGroup);
+        SchedulerJob job = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, jobName, jobGroup);
         if (job != null)
         {
             // 작업 상태를 "PAUSED"로 변경하여 중단 상태임을 표시
@@ -203,10 +285,10 @@ public class SchedulerService
     // 6️⃣ 작업 재개 메서드 (Resume)
     // 중단된 작업을 다시 활성화하여 스케줄에 따라 실행되도록 복원
     // -----------------------------
-    public void resumeJob(String jobName, String jobGroup) throws SchedulerException
+    public void resumeJob(String tenantId, String jobName, String jobGroup) throws SchedulerException
     {
         // 재개할 작업의 고유 식별자 생성
-        JobKey jobKey = JobKey.jobKey(jobName, jobGroup);
+        JobKey jobKey = TenantKeys.jobKey(tenantId, jobName, jobGroup);
 
         // Quartz Scheduler 해당 작업의 상세 정보 조회
         // JobDetail 작업의 클래스, 데이터, 설정 등을 포함하는 객체
@@ -218,32 +300,41 @@ public class SchedulerService
             return;
         }
 
-        // 기존 트리거 정보 조회 (트리거명은 등록 시 "작업명Trigger" 형식으로 생성됨)
-        TriggerKey triggerKey = TriggerKey.triggerKey(jobName + "Trigger", jobGroup);
-        Trigger oldTrigger = scheduler.getTrigger(triggerKey);
-
-        if (oldTrigger == null)
+        SchedulerJob job = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, jobName, jobGroup);
+        if (job != null && job.isIntervalTrigger())
         {
-            // 트리거가 존재하지 않는 경우 경고 로그 기록 후 종료
-            log.warn("재개 실패: Trigger 존재하지 않음 - {} / {}", jobName, jobGroup);
-            return;
+            // 간격 Job: Tick 엔진 재등록 (재개 시점부터 한 주기 뒤 첫 실행, 드레인 중이면 SchedulerDrainingException)
+            intervalTriggerService.checkAccepting(job);
+            intervalTriggerService.schedule(jobDetail, job);
+        }
+        else
+        {
+            // 기존 트리거 정보 조회 (트리거명은 등록 시 "작업명Trigger" 형식으로 생성됨)
+            TriggerKey triggerKey = TenantKeys.triggerKey(tenantId, jobName, jobGroup);
+            Trigger oldTrigger = scheduler.getTrigger(triggerKey);
+
+            if (oldTrigger == null)
+            {
+                // 트리거가 존재하지 않는 경우 경고 로그 기록 후 종료
+                log.warn("재개 실패: Trigger 존재하지 않음 - {} / {}", jobName, jobGroup);
+                return;
+            }
+
+            // 새로운 트리거 생성 (misfire 정책을 변경하여 놓친 실행에 대한 처리 개선)
+            CronTrigger newTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(triggerKey) // 기존과 동일한 트리거 키 사용
+                .forJob(jobKey) // 재개할 작업과 연결
+                .withSchedule(CronScheduleBuilder
+                    .cronSchedule(((CronTrigger) oldTrigger).getCronExpression()) // 기존 Cron 표현식 유지
+                    .withMisfireHandlingInstructionFireAndProceed()) // 놓친 실행이 있으면 즉시 실행 후 정상 스케줄 진행
+                .build();
+
+            // 기존 트리거를 새로운 트리거로 교체
+            // rescheduleJob() 메서드는 기존 트리거를 제거하고 새 트리거로 대체
+            scheduler.rescheduleJob(triggerKey, newTrigger);
         }
-
-        // 새로운 트리거 생성 (misfire 정책을 변경하여 놓친 실행에 대한 처리 개선)
-        CronTrigger newTrigger = TriggerBuilder.newTrigger()
-            .withIdentity(triggerKey) // 기존과 동일한 트리거 키 사용
-            .forJob(jobKey) // 재개할 작업과 연결
-            .withSchedule(CronScheduleBuilder
-                .cronSchedule(((CronTrigger) oldTrigger).getCronExpression()) // 기존 Cron 표현식 유지
-                .withMisfireHandlingInstructionFireAndProceed()) // 놓친 실행이 있으면 즉시 실행 후 정상 스케줄 진행
-            .build();
-
-        // 기존 트리거를 새로운 트리거로 교체
-        // rescheduleJob() 메서드는 기존 트리거를 제거하고 새 트리거로 대체
-        scheduler.rescheduleJob(triggerKey, newTrigger);
 
         // 데이터베이스의 작업 상태를 "RUNNING"으로 변경하여 활성 상태로 복원
-        SchedulerJob job = jobRepository.findByJobNameAndJobGroup(jobName, jobGroup);
         if (job != null)
         {
             // 작업 상태를 실행 중으로 변경
@@ -261,14 +352,16 @@ public class SchedulerService
     // 7️⃣ 작업 수정 메서드 (Update)
     // 기존 작업의 정보를 변경 (작업명, 그룹, Cron 표현식, 설명 등)
     // -----------------------------
-    public SchedulerJob updateJob(SchedulerJob job) throws SchedulerException
+    public SchedulerJob updateJob(String tenantId, SchedulerJob job) throws SchedulerException
     {
         // 수정할 작업 객체의 상세 정보를 로그로 출력 (디버깅 목적)
         log.info(String.valueOf(job));
 
         // 데이터베이스에서 수정 대상 작업을 ID로 조회
         // Optional 사용하여 null 안전성 보장
-        Optional<SchedulerJob> schedulerJobOpt = jobRepository.findById(job.getId());
+        // 다른 테넌트 소속 Job 수정할 수 없도록 테넌트 일치 여부도 확인
+        Optional<SchedulerJob> schedulerJobOpt = jobRepository.findById(job.getId())
+            .filter(existing -> tenantId.equals(existing.getTenantId()));
         if (schedulerJobOpt.isEmpty())
         {
             // 수정 대상 작업이 존재하지 않으면 예외 발생
@@ -278,8 +371,13 @@ public class SchedulerService
         // Optional 실제 작업 객체 추출
         SchedulerJob existingJob = schedulerJobOpt.get();
 
+        // 변경될 실행 방식(CRON / INTERVAL) 검증 및 기본값 적용
+        // 기존 Job 삭제 전에 검증 → 잘못된 요청으로 기존 Job 이 사라지지 않도록
+        intervalTriggerService.validate(tenantId, job);
+        CronScheduleBuilder scheduleBuilder = job.isIntervalTrigger() ? null : CronScheduleBuilder.cronSchedule(expandCron(job));
+
         // 기존 작업의 JobKey 생성 (삭제를 위해 필요)
-        JobKey oldJobKey = JobKey.jobKey(existingJob.getJobName(), existingJob.getJobGroup());
+        JobKey oldJobKey = TenantKeys.jobKey(tenantId, existingJob.getJobName(), existingJob.getJobGroup());
 
         // Quartz Scheduler 기존 작업이 존재하는지 확인 후 삭제
         // 작업 정보가 변경되면 기존 작업을 완전히 제거하고 새로 등록하는 방식 사용
@@ -288,23 +386,40 @@ public class SchedulerService
             // 기존 작업과 관련된 모든 트리거도 함께 삭제됨
             scheduler.deleteJob(oldJobKey);
         }
+        intervalTriggerService.cancel(oldJobKey);
+
+        // 요청에 parameters 항목이 없으면 기존 파라미터 유지, 빈 맵({})이면 전체 삭제
+        if (job.isParametersProvided())
+        {
+            existingJob.setParameterData(job.getParameterData());
+        }
 
         // 새로운 JobDetail 생성 (수정된 정보로)
+        // 간격 Job 은 Trigger 없이 등록되므로 durable 필요
         JobDetail newJobDetail = JobBuilder.newJob(DynamicJob.class) // 실제 실행할 작업 클래스
-            .withIdentity(job.getJobName(), job.getJobGroup()) // 새로운 작업명과 그룹으로 설정
+            .withIdentity(TenantKeys.jobKey(tenantId, job.getJobName(), job.getJobGroup())) // 새로운 작업명과 그룹으로 설정
             .withDescription(job.getDescription()) // 작업 설명 추가
-            .usingJobData("description", job.getDescription()) // 작업 데이터에 설명 정보 추가
+            .usingJobData(JobParameterCodec.toJobDataMap(existingJob.getParameterData())) // Job 파라미터
+            .usingJobData(DynamicJob.DESCRIPTION_KEY, job.getDescription()) // 작업 데이터에 설명 정보 추가 (파라미터 예약 키)
+            .storeDurably(job.isIntervalTrigger())
             .build();
 
-        // 새로운 Trigger 생성 (수정된 Cron 표현식으로)
-        CronScheduleBuilder scheduleBuilder = CronScheduleBuilder.cronSchedule(job.getCronExpression());
-        CronTrigger newTrigger = TriggerBuilder.newTrigger()
-            .withIdentity(job.getJobName() + "Trigger", job.getJobGroup()) // 트리거 식별자도 새 정보로 설정
-            .withSchedule(scheduleBuilder) // 새로운 Cron 스케줄 적용
-            .build();
-
-        // 새로운 작업과 트리거를 Quartz Scheduler 등록
-        scheduler.scheduleJob(newJobDetail, newTrigger);
+        if (job.isIntervalTrigger())
+        {
+            // 간격 Job: JobDetail 만 등록 (아래에서 중단 상태로 변경되므로 Tick 엔진 등록은 재개 시)
+            scheduler.addJob(newJobDetail, false);
+        }
+        else
+        {
+            // 새로운 Trigger 생성 (위에서 검증한 수정된 Cron 표현식, H 토큰 치환)
+            CronTrigger newTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(TenantKeys.triggerKey(tenantId, job.getJobName(), job.getJobGroup())) // 트리거 식별자도 새 정보로 설정
+                .withSchedule(scheduleBuilder) // 새로운 Cron 스케줄 적용
+                .build();
+
+            // 새로운 작업과 트리거를 Quartz Scheduler 등록
+            scheduler.scheduleJob(newJobDetail, newTrigger);
+        }
 
         // 데이터베이스의 기존 레코드를 새로운 정보로 업데이트
         // 기존 객체의 필드들을 수정된 값으로 변경
@@ -312,14 +427,134 @@ public class SchedulerService
         existingJob.setJobGroup(job.getJobGroup());           // 그룹명 업데이트
         existingJob.setCronExpression(job.getCronExpression()); // Cron 표현식 업데이트
         existingJob.setDescription(job.getDescription());     // 설명 업데이트
+        existingJob.setTriggerType(job.getTriggerType());     // 실행 방식 업데이트
+        existingJob.setIntervalMillis(job.getIntervalMillis()); // 실행 간격 업데이트
+        existingJob.setIntervalMode(job.getIntervalMode());   // 간격 기준 업데이트
+        existingJob.setOverrunPolicy(job.getOverrunPolicy()); // 실행 초과 정책 업데이트
 
         // 변경된 정보를 데이터베이스에 저장
         jobRepository.save(existingJob);
 
         // 업데이트된 작업을 즉시 중단 상태로 변경
-        pauseJob(existingJob.getJobName(), existingJob.getJobGroup());
+        pauseJob(tenantId, existingJob.getJobName(), existingJob.getJobGroup());
 
         // 업데이트된 작업 객체를 반환
         return existingJob;
     }
+
+    // -----------------------------
+    // 8️⃣ Job 파라미터 수정 메서드
+    // Trigger 재등록 없이 JobDataMap 만 교체 (다음 실행부터 적용)
+    // -----------------------------
+    public SchedulerJob updateParameters(String tenantId, String jobName, String jobGroup,
+                                         Map<String, Object> parameters) throws SchedulerException
+    {
+        SchedulerJob job = jobRepository.findByTenantIdAndJobNameAndJobGroup(tenantId, jobName, jobGroup);
+        if (job == null)
+        {
+            throw new IllegalArgumentException("Job 존재하지 않음: " + jobName);
+        }
+
+        // 기존 파라미터 키 (JobDataMap 에서 제거 대상)
+        Set<String> oldKeys = job.getParameters().keySet();
+
+        // 압축 형식으로 저장 (지원하지 않는 타입이면 IllegalArgumentException)
+        job.setParameters(parameters);
+        jobRepository.save(job);
+
+        JobKey jobKey = TenantKeys.jobKey(tenantId, jobName, jobGroup);
+        JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+        if (jobDetail != null)
+        {
+            // 파라미터 외 JobDataMap 값(description 등 예약 키)은 유지하고 파라미터만 교체
+            JobDataMap jobData = new JobDataMap(jobDetail.getJobDataMap());
+            oldKeys.stream().filter(key -> !JobParameterCodec.isReserved(key)).forEach(jobData::remove);
+            jobData.putAll(JobParameterCodec.toJobDataMap(job.getParameterData()));
+
+            // replace=true: 연결된 Trigger 유지한 채 JobDetail 교체
+            // storeNonDurableWhileAwaitingScheduling=true: 비내구성 Job(수정 API 등록분)도 교체 허용
+            JobDetail updated = jobDetail.getJobBuilder().setJobData(jobData).build();
+            scheduler.addJob(updated, true, true);
+
+            // 간격 Job 은 Tick 엔진이 가진 JobDetail 도 교체
+            intervalTriggerService.refresh(updated);
+        }
+
+        log.info("Job 파라미터 수정됨: {} - 그룹: {} - 파라미터: {}개", jobName, jobGroup, job.getParameters().size());
+        return job;
+    }
+
+    // -----------------------------
+    // 9️⃣ 혼잡 Cron 일괄 분산 메서드 (Respread)
+    // 실제 실행 시각이 다른 Job 과 겹치는(같은 표현식을 2개 이상 Job 이 공유) Cron Job 만 대상
+    // 정각/고정 간격 초·분 필드를 H 토큰으로 재작성하여 실행 시각 분산
+    // dryRun=true 면 변경 내역만 반환 (DB / Quartz 변경 없음)
+    // -----------------------------
+    public List<CronRespread> respread(String tenantId, boolean dryRun) throws SchedulerException
+    {
+        List<CronRespread> changes = new ArrayList<>();
+
+        // 치환된 표현식 별 Job 수 (스레드 풀을 공유하는 전체 테넌트 기준)
+        Map<String, Long> jobsPerExpression = jobRepository.findAll().stream()
+            .filter(job -> !job.isIntervalTrigger() && job.getCronExpression() != null)
+            .collect(Collectors.groupingBy(SchedulerService::expandCron, Collectors.counting()));
+
+        for (SchedulerJob job : jobRepository.findAllByTenantId(tenantId))
+        {
+            // 혼자 쓰는 실행 시각은 분산할 필요 없음
+            if (job.isIntervalTrigger() || job.getCronExpression() == null
+                || jobsPerExpression.getOrDefault(expandCron(job), 0L) < 2)
+            {
+                continue;
+            }
+
+            String before = job.getCronExpression();
+            String after = HashCronExpander.respread(before);
+            if (after == null || after.equals(before))
+            {
+                continue;
+            }
+
+            String expanded = HashCronExpander.expand(after, job.getJobName(), job.getJobGroup());
+            changes.add(new CronRespread(job.getJobName(), job.getJobGroup(), before, after, expanded));
+            if (dryRun)
+            {
+                continue;
+            }
+
+            // DB 저장 값은 H 포함 표현식 (재시작해도 같은 값으로 치환됨)
+            job.setCronExpression(after);
+            jobRepository.save(job);
+
+            // 기존 Trigger 교체 (Job 유지)
+            TriggerKey triggerKey = TenantKeys.triggerKey(tenantId, job.getJobName(), job.getJobGroup());
+            if (scheduler.getTrigger(triggerKey) != null)
+            {
+                CronTrigger newTrigger = TriggerBuilder.newTrigger()
+                    .withIdentity(triggerKey)
+                    .forJob(TenantKeys.jobKey(tenantId, job.getJobName(), job.getJobGroup()))
+                    .withSchedule(CronScheduleBuilder.cronSchedule(expanded)
+                        .withMisfireHandlingInstructionDoNothing())
+                    .build();
+                scheduler.rescheduleJob(triggerKey, newTrigger);
+
+                // 새 Trigger 는 WAITING 상태로 등록되므로 중단 상태 Job 은 다시 중단
+                if ("PAUSED".equals(job.getStatus()))
+                {
+                    scheduler.pauseTrigger(triggerKey);
+                }
+            }
+        }
+
+        log.info("Cron 일괄 분산{}: 테넌트 {} - 대상 {}개", dryRun ? "(dry-run)" : "", tenantId, changes.size());
+        return changes;
+    }
+
+    /**
+     * Job Cron 표현식의 H 토큰을 Job 고유 값으로 치환
+     */
+    private static String expandCron(SchedulerJob job)
+    {
+        return HashCronExpander.expand(job.getCronExpression(), job.getJobName(), job.getJobGroup());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.example.service;
+
+import com.example.config.TenantQuotaProperties;
+import com.example.scheduler.DynamicJob;
+import com.example.scheduler.TenantKeys;
+import com.example.scheduler.TenantUsage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.quartz.*;
+import org.quartz.listeners.JobListenerSupport;
+import org.quartz.listeners.TriggerListenerSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TenantQuotaService
+ * 테넌트별 쿼터 적용 서비스
+ * 주요 기능:
+ * - Job 등록 시 테넌트 Job 개수 쿼터 검사 (테넌트별 잠금 안에서 개수 확인 ~ 저장까지 수행 → 동시 등록으로 초과 불가)
+ * - Job 실행 직전(Quartz TriggerListener veto) 초당 실행 횟수 / 동시 실행 수 쿼터 검사
+ *   → 한 테넌트가 Quartz 스레드 풀을 독점하지 못하도록 초과 실행은 건너뜀
+ * - 실행 종료/거부 시(JobListener) 동시 실행 슬롯 반환
+ * - 쿼터 거부는 WARN 로그(테넌트별 최대 10초에 1회) + 사용량 조회의 거부 누적 횟수로 확인
+ * - 사용량 집계는 실제 실행된 테넌트만 생성 (임의 X-Tenant-Id 조회로 늘어나지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantQuotaService
+{
+    // 실행 컨텍스트에 저장하는 "슬롯 획득 테넌트" 키 (반환 대상 표시)
+    private static final String QUOTA_SLOT_KEY = "tenantQuotaSlot";
+
+    // Job 등록 잠금 개수 (테넌트 ID 해시로 분배, 임의 테넌트 ID 로 잠금 객체가 늘어나지 않도록 고정 개수)
+    private static final int JOB_QUOTA_LOCK_STRIPES = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(TenantQuotaService.class);
+
+    private final Scheduler scheduler;
+    private final TenantQuotaProperties properties;
+
+    // 테넌트 ID → 사용량
+    private final Map<String, TenantUsage> usages = new ConcurrentHashMap<>();
+
+    // Job 등록 잠금 (테넌트 ID 해시 → 잠금)
+    private final Lock[] jobQuotaLocks = newLocks(JOB_QUOTA_LOCK_STRIPES);
+
+    @PostConstruct
+    public void init() throws SchedulerException
+    {
+        scheduler.getListenerManager().addTriggerListener(new QuotaTriggerListener());
+        scheduler.getListenerManager().addJobListener(new QuotaReleaseListener());
+    }
+
+    /**
+     * Job 개수 쿼터 검사
+     * @param currentJobs 현재 테넌트 Job 개수
+     * @throws IllegalArgumentException 쿼터 초과 시
+     */
+    public void checkJobQuota(String tenantId, long currentJobs)
+    {
+        long maxJobs = quotaOf(tenantId).getMaxJobs();
+        if (maxJobs > 0 && currentJobs >= maxJobs)
+        {
+            throw new IllegalArgumentException("테넌트 Job 개수 쿼터 초과: " + tenantId + " (최대 " + maxJobs + "개)");
+        }
+    }
+
+    /**
+     * 테넌트 Job 등록 잠금 (개수 검사 ~ 저장을 감싸서 사용)
+     * - 노드 내 동시 등록만 직렬화, 여러 노드가 같은 테넌트 Job 을 동시에 등록하면 노드 수만큼 초과 가능
+     */
+    public Lock jobQuotaLock(String tenantId)
+    {
+        return jobQuotaLocks[Math.floorMod(tenantId.hashCode(), jobQuotaLocks.length)];
+    }
+
+    private static Lock[] newLocks(int count)
+    {
+        Lock[] locks = new Lock[count];
+        for (int i = 0; i < count; i++)
+        {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 테넌트 적용 쿼터 조회 (사용량 집계를 생성하지 않음)
+     */
+    public TenantQuotaProperties.Quota quotaOf(String tenantId)
+    {
+        TenantUsage usage = usages.get(tenantId);
+        return usage != null ? usage.getQuota() : properties.quotaOf(tenantId);
+    }
+
+    /**
+     * 테넌트 사용량 조회 (API 용, 실행 이력이 없는 테넌트는 집계를 만들지 않고 빈 사용량 반환)
+     */
+    public TenantUsage currentUsageOf(String tenantId)
+    {
+        TenantUsage usage = usages.get(tenantId);
+        return usage != null ? usage : new TenantUsage(tenantId, properties.quotaOf(tenantId));
+    }
+
+    /**
+     * 실행 경로 전용 사용량 (Job 을 가진 테넌트의 실행 시에만 호출 → 없으면 생성)
+     */
+    public TenantUsage usageOf(String tenantId)
+    {
+        return usages.computeIfAbsent(tenantId, id -> new TenantUsage(id, properties.quotaOf(id)));
+    }
+
+    /**
+     * 쿼터 거부 경고 로그 (테넌트별 최대 10초에 1회, 누적 거부 횟수 포함)
+     */
+    public void warnVetoed(TenantUsage usage, Object target)
+    {
+        if (usage.tryMarkVetoWarning())
+        {
+            log.warn("테넌트 쿼터 초과로 실행 건너뜀: {} / {} (누적 거부: 초당 실행 {}회, 동시 실행 {}회)",
+                usage.getTenantId(), target, usage.getVetoedByRateTotal(), usage.getVetoedByConcurrencyTotal());
+        }
+    }
+
+    /**
+     * 실행 직전 쿼터 검사 - 초과 시 실행 거부(veto)
+     */
+    private class QuotaTriggerListener extends TriggerListenerSupport
+    {
+        @Override
+        public String getName()
+        {
+            return "tenant-quota";
+        }
+
+        @Override
+        public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context)
+        {
+            String tenantId = TenantKeys.tenantOf(trigger.getJobKey());
+            TenantUsage usage = usageOf(tenantId);
+            if (!usage.tryAcquire())
+            {
+                // 드레인으로 중단된 실행의 재실행은 원래 실행이 이미 쿼터를 통과했으므로 거부하지 않음 (거부 시 재실행 유실)
+                if (context.getMergedJobDataMap().containsKey(DynamicJob.RECOVERED_FIRE_TIME_KEY))
+                {
+                    log.info("쿼터 초과 상태지만 중단된 실행 재실행 허용: {} / {}", tenantId, trigger.getJobKey());
+                    return false;
+                }
+                warnVetoed(usage, trigger.getJobKey());
+                return true;
+            }
+            context.put(QUOTA_SLOT_KEY, tenantId);
+            return false;
+        }
+    }
+
+    /**
+     * 실행 종료 또는 (다른 리스너에 의한) 거부 시 슬롯 반환
+     */
+    private class QuotaReleaseListener extends JobListenerSupport
+    {
+        @Override
+        public String getName()
+        {
+            return "tenant-quota-release";
+        }
+
+        @Override
+        public void jobExecutionVetoed(JobExecutionContext context)
+        {
+            release(context);
+        }
+
+        @Override
+        public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException)
+        {
+            release(context);
+        }
+
+        private void release(JobExecutionContext context)
+        {
+            Object tenantId = context.get(QUOTA_SLOT_KEY);
+            if (tenantId != null)
+            {
+                usageOf(tenantId.toString()).release();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.dto;
+
+import com.example.dto.RunExecution.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunExecutionTest
+{
+    private static RunExecution newExecution()
+    {
+        return new RunExecution("id", "default", "job", "group", null);
+    }
+
+    @Test
+    void advanceOnlyMovesForward()
+    {
+        RunExecution execution = newExecution();
+
+        execution.advance(Status.RUNNING, null);
+        execution.advance(Status.TRIGGERED, null);
+        assertEquals(Status.RUNNING, execution.getStatus());
+
+        execution.advance(Status.COMPLETED, null);
+        execution.advance(Status.FAILED, "late");
+        assertEquals(Status.COMPLETED, execution.getStatus());
+        assertNull(execution.getMessage());
+        assertTrue(execution.isTerminal());
+    }
+
+    @Test
+    void failIfNotStartedOnlyAffectsPendingExecutions()
+    {
+        RunExecution triggered = newExecution();
+        triggered.advance(Status.TRIGGERED, null);
+        assertTrue(triggered.failIfNotStarted("Job 삭제됨"));
+        assertEquals(Status.FAILED, triggered.getStatus());
+
+        RunExecution running = newExecution();
+        running.advance(Status.RUNNING, null);
+        assertFalse(running.failIfNotStarted("Job 삭제됨"));
+        assertEquals(Status.RUNNING, running.getStatus());
+    }
+
+    @Test
+    void failIfStaleExpiresAfterTimeout()
+    {
+        RunExecution execution = newExecution();
+        execution.advance(Status.TRIGGERED, null);
+
+        execution.failIfStale(Instant.now(), 60_000);
+        assertEquals(Status.TRIGGERED, execution.getStatus());
+
+        execution.failIfStale(Instant.now().plusSeconds(61), 60_000);
+        assertEquals(Status.FAILED, execution.getStatus());
+    }
+
+    @Test
+    void pendingExecutionsCoalesceRegardlessOfWindow()
+    {
+        RunExecution execution = newExecution();
+        Instant later = Instant.now().plusSeconds(60);
+
+        assertTrue(execution.canCoalesce(later, 0));
+        execution.advance(Status.TRIGGERED, null);
+        assertTrue(execution.canCoalesce(later, 0));
+    }
+
+    @Test
+    void startedExecutionsCoalesceOnlyWithinWindow()
+    {
+        RunExecution execution = newExecution();
+        execution.advance(Status.RUNNING, null);
+
+        assertTrue(execution.canCoalesce(Instant.now(), 5_000));
+        assertFalse(execution.canCoalesce(Instant.now().plusSeconds(10), 5_000));
+
+        execution.advance(Status.COMPLETED, null);
+        assertTrue(execution.canCoalesce(Instant.now(), 5_000));
+        assertFalse(execution.canCoalesce(Instant.now().plusSeconds(10), 5_000));
+    }
+
+    @Test
+    void failedOrRejectedExecutionsNeverCoalesce()
+    {
+        RunExecution rejected = newExecution();
+        rejected.advance(Status.REJECTED, "드레인 중");
+        assertFalse(rejected.canCoalesce(Instant.now(), 60_000));
+
+        RunExecution failed = newExecution();
+        failed.advance(Status.FAILED, "오류");
+        assertFalse(failed.canCoalesce(Instant.now(), 60_000));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.CronExpression;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashCronExpanderTest
+{
+    @Test
+    void expressionWithoutHashIsUnchanged()
+    {
+        assertEquals("0 0/5 * * * ?", HashCronExpander.expand("0 0/5 * * * ?", "job", "group"));
+    }
+
+    @Test
+    void sameJobAlwaysExpandsToSameValue()
+    {
+        String first = HashCronExpander.expand("H H * * * ?", "report", "billing");
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertEquals(first, HashCronExpander.expand("H H * * * ?", "report", "billing"));
+        }
+        assertTrue(CronExpression.isValidExpression(first), first);
+    }
+
+    @Test
+    void differentJobsAreSpreadAcrossRange()
+    {
+        Set<String> seconds = new HashSet<>();
+        Set<String> minutes = new HashSet<>();
+        for (int i = 0; i < 200; i++)
+        {
+            String[] fields = HashCronExpander.expand("H H * * * ?", "job-" + i, "group").split(" ");
+            seconds.add(fields[0]);
+            minutes.add(fields[1]);
+        }
+
+        // 200개 Job 이 60칸 중 대부분에 흩어져야 함
+        assertTrue(seconds.size() > 40, "seconds " + seconds.size());
+        assertTrue(minutes.size() > 40, "minutes " + minutes.size());
+    }
+
+    @Test
+    void expandedValuesStayWithinRange()
+    {
+        for (int i = 0; i < 500; i++)
+        {
+            String[] fields = HashCronExpander.expand("H H(10-19) H(0-5) H * ?", "job-" + i, "group").split(" ");
+
+            assertBetween(fields[0], 0, 59);
+            assertBetween(fields[1], 10, 19);
+            assertBetween(fields[2], 0, 5);
+            assertBetween(fields[3], 1, 28);
+        }
+    }
+
+    @Test
+    void stepKeepsIntervalAndSpreadsStart()
+    {
+        for (int i = 0; i < 200; i++)
+        {
+            String minute = HashCronExpander.expand("0 H/15 * * * ?", "job-" + i, "group").split(" ")[1];
+            String[] parts = minute.split("/");
+
+            assertEquals("15", parts[1]);
+            assertBetween(parts[0], 0, 14);
+        }
+
+        String ranged = HashCronExpander.expand("0 H(0-29)/10 * * * ?", "job", "group").split(" ")[1];
+        assertTrue(ranged.matches("[0-9]-29/10"), ranged);
+    }
+
+    @Test
+    void invalidTokensAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> HashCronExpander.expand("0 H(50-70) * * * ?", "job", "group"));
+        assertThrows(IllegalArgumentException.class, () -> HashCronExpander.expand("0 H/0 * * * ?", "job", "group"));
+        assertThrows(IllegalArgumentException.class, () -> HashCronExpander.expand("0 Hx * * * ?", "job", "group"));
+    }
+
+    @Test
+    void respreadRewritesSecondsAndMinutes()
+    {
+        assertEquals("H H * * * ?", HashCronExpander.respread("0 0 * * * ?"));
+        assertEquals("H H/15 * * * ?", HashCronExpander.respread("0 0/15 * * * ?"));
+        assertEquals("H H/5 * * * ?", HashCronExpander.respread("0 */5 * * * ?"));
+        assertEquals("15 30 * * * ?", HashCronExpander.respread("15 30 * * * ?"));
+    }
+
+    @Test
+    void respreadKeepsMinuteWhenHourIsFixed()
+    {
+        assertEquals("H 0 9 * * ?", HashCronExpander.respread("0 0 9 * * ?"));
+        assertEquals("H 0 9,18 * * ?", HashCronExpander.respread("0 0 9,18 * * ?"));
+        assertEquals("H 0/15 9-17 * * ?", HashCronExpander.respread("0 0/15 9-17 * * ?"));
+        assertEquals("H H 0/2 * * ?", HashCronExpander.respread("0 0 0/2 * * ?"));
+    }
+
+    private static void assertBetween(String value, int min, int max)
+    {
+        int parsed = Integer.parseInt(value);
+        assertTrue(parsed >= min && parsed <= max, value + " not in " + min + "-" + max);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobParameterCodecTest
+{
+    @Test
+    void roundTripRestoresTypes()
+    {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("batchSize", 500);
+        parameters.put("offset", 12_345_678_901L);
+        parameters.put("ratio", 0.25);
+        parameters.put("dryRun", false);
+        parameters.put("target", "https://example.com/a?b=c&d=e");
+
+        String data = JobParameterCodec.encode(parameters);
+
+        assertEquals(parameters, JobParameterCodec.decode(data));
+    }
+
+    @Test
+    void separatorsInKeysAndValuesAreEscaped()
+    {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("a=b&c", "x:y=z&w");
+        parameters.put("한글 키", "값 %");
+
+        assertEquals(parameters, JobParameterCodec.decode(JobParameterCodec.encode(parameters)));
+    }
+
+    @Test
+    void emptyOrNullValuesEncodeToNull()
+    {
+        Map<String, Object> nullValue = new LinkedHashMap<>();
+        nullValue.put("skip", null);
+
+        assertNull(JobParameterCodec.encode(null));
+        assertNull(JobParameterCodec.encode(Map.of()));
+        assertNull(JobParameterCodec.encode(nullValue));
+        assertTrue(JobParameterCodec.decode(null).isEmpty());
+        assertTrue(JobParameterCodec.decode("").isEmpty());
+    }
+
+    @Test
+    void unsupportedTypeIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JobParameterCodec.encode(Map.of("list", List.of(1))));
+    }
+
+    @Test
+    void reservedKeysAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JobParameterCodec.encode(Map.of(DynamicJob.DESCRIPTION_KEY, "x")));
+        assertThrows(IllegalArgumentException.class, () -> JobParameterCodec.encode(Map.of(DynamicJob.RUN_NOW_EXECUTION_ID_KEY, "x")));
+        assertThrows(IllegalArgumentException.class, () -> JobParameterCodec.encode(Map.of(DynamicJob.RECOVERED_FIRE_TIME_KEY, "x")));
+    }
+
+    @Test
+    void reservedKeysStoredBeforeValidationAreNotLoaded()
+    {
+        JobDataMap jobDataMap = JobParameterCodec.toJobDataMap("description=S:legacy&batchSize=I:10");
+
+        assertFalse(jobDataMap.containsKey(DynamicJob.DESCRIPTION_KEY));
+        assertEquals("10", jobDataMap.get("batchSize"));
+    }
+
+    @Test
+    void jobDataMapHoldsStringValues()
+    {
+        JobDataMap jobDataMap = JobParameterCodec.toJobDataMap(JobParameterCodec.encode(Map.of("batchSize", 500, "dryRun", true)));
+
+        assertEquals("500", jobDataMap.get("batchSize"));
+        assertEquals(500, jobDataMap.getIntValue("batchSize"));
+        assertTrue(jobDataMap.getBooleanValue("dryRun"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.scheduler;
+
+import com.example.config.TenantQuotaProperties.Quota;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantUsageTest
+{
+    @Test
+    void concurrencyLimitVetoesUntilReleased()
+    {
+        TenantUsage usage = new TenantUsage("team-a", new Quota(0, 0, 2));
+
+        assertTrue(usage.tryAcquire());
+        assertTrue(usage.tryAcquire());
+        assertFalse(usage.tryAcquire());
+        assertEquals(1, usage.getVetoedByConcurrencyTotal());
+
+        usage.release();
+        assertTrue(usage.tryAcquire());
+        assertEquals(2, usage.getRunningExecutions());
+    }
+
+    @Test
+    void rateLimitAllowsOneSecondBurst()
+    {
+        TenantUsage usage = new TenantUsage("team-a", new Quota(0, 10, 0));
+
+        int acquired = 0;
+        for (int i = 0; i < 20; i++)
+        {
+            if (usage.tryAcquire())
+            {
+                acquired++;
+                usage.release();
+            }
+        }
+
+        // 1초 분량 버스트(10회)까지만 허용 (반복 중 경과 시간으로 1회 정도 더 허용될 수 있음)
+        assertTrue(acquired >= 10 && acquired <= 11, "acquired " + acquired);
+        assertEquals(20 - acquired, usage.getVetoedByRateTotal());
+    }
+
+    @Test
+    void zeroQuotaMeansUnlimited()
+    {
+        TenantUsage usage = new TenantUsage("default", new Quota(0, 0, 0));
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            assertTrue(usage.tryAcquire());
+        }
+        assertEquals(10_000, usage.getRunningExecutions());
+        assertEquals(10_000, usage.getFiredTotal());
+        assertEquals(0, usage.getVetoedByRateTotal() + usage.getVetoedByConcurrencyTotal());
+    }
+
+    @Test
+    void vetoWarningIsThrottled()
+    {
+        TenantUsage usage = new TenantUsage("team-a", new Quota(0, 0, 1));
+
+        assertTrue(usage.tryMarkVetoWarning());
+        assertFalse(usage.tryMarkVetoWarning());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickEngineTest
+{
+    private TickEngine engine;
+
+    @BeforeEach
+    void setUp()
+    {
+        engine = new TickEngine(5, 64, 2);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        engine.shutdownNow();
+    }
+
+    @Test
+    void fixedRateFiresRepeatedly() throws InterruptedException
+    {
+        CountDownLatch fired = new CountDownLatch(5);
+        engine.schedule("rate", 20, false, false, fired::countDown);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void periodEqualToTickFiresEveryTick() throws InterruptedException
+    {
+        // tick 5ms, 주기 5ms → 500ms 동안 약 100회 (주기 건너뛰기 버그면 약 50회)
+        assertFiresAtRate(5, 500);
+    }
+
+    @Test
+    void periodOfTwoTicksFiresEveryOtherTick() throws InterruptedException
+    {
+        assertFiresAtRate(10, 500);
+    }
+
+    private void assertFiresAtRate(long periodMillis, long durationMillis) throws InterruptedException
+    {
+        AtomicInteger count = new AtomicInteger();
+        TickEngine.IntervalTask task = engine.schedule("rate-" + periodMillis, periodMillis, false, false, count::incrementAndGet);
+
+        Thread.sleep(durationMillis);
+        task.cancel();
+
+        long expected = durationMillis / periodMillis;
+        int fired = count.get();
+        assertTrue(fired >= expected * 8 / 10, "실행 " + fired + "회 < 예상 " + expected + "회의 80%");
+        assertTrue(fired <= expected + 2, "실행 " + fired + "회 > 예상 " + expected + "회");
+    }
+
+    @Test
+    void cancelledTaskStopsFiring() throws InterruptedException
+    {
+        AtomicInteger count = new AtomicInteger();
+        TickEngine.IntervalTask task = engine.schedule("cancel", 10, false, false, count::incrementAndGet);
+
+        Thread.sleep(100);
+        task.cancel();
+        Thread.sleep(50);
+        int afterCancel = count.get();
+        Thread.sleep(100);
+
+        assertTrue(afterCancel > 0);
+        assertEquals(afterCancel, count.get());
+    }
+
+    @Test
+    void skipPolicyNeverRunsConcurrently() throws InterruptedException
+    {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        engine.schedule("skip", 10, false, false, () ->
+        {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try
+            {
+                Thread.sleep(35);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+
+        Thread.sleep(300);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void periodOutOfRangeIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> engine.schedule("short", 1, false, false, () -> { }));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.schedule("long", TickEngine.MAX_PERIOD_MILLIS + 1, false, false, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> engine.schedule("overflow", Long.MAX_VALUE, false, false, () -> { }));
+    }
+
+    @Test
+    void scheduleAfterStopIsRejected()
+    {
+        engine.stop();
+
+        assertTrue(engine.isStopped());
+        assertThrows(IllegalStateException.class, () -> engine.schedule("stopped", 20, false, false, () -> { }));
+    }
+}
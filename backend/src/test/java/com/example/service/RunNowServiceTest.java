@@ -0,0 +1,132 @@
+package com.example.service;
+
+import com.example.dto.RunExecution;
+import com.example.dto.RunExecution.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+import org.quartz.Scheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RunNowServiceTest
+{
+    private SchedulerService schedulerService;
+    private SchedulerDrainService drainService;
+    private RunNowService runNowService;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        schedulerService = mock(SchedulerService.class);
+        drainService = mock(SchedulerDrainService.class);
+        when(schedulerService.runJobNow(anyString(), anyString(), anyString(), any(JobDataMap.class))).thenReturn(true);
+
+        runNowService = new RunNowService(mock(Scheduler.class), schedulerService, drainService);
+        ReflectionTestUtils.setField(runNowService, "coalesceWindowMillis", 5_000L);
+        ReflectionTestUtils.setField(runNowService, "retentionMillis", 600_000L);
+        ReflectionTestUtils.setField(runNowService, "startTimeoutMillis", 300_000L);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        runNowService.shutdown();
+    }
+
+    @Test
+    void pendingRequestsForSameJobAreCoalesced()
+    {
+        RunExecution first = runNowService.submit("default", "job", "group", null);
+        RunExecution second = runNowService.submit("default", "job", "group", null);
+
+        assertSame(first, second);
+        assertEquals(1, first.getCoalescedRequests());
+    }
+
+    @Test
+    void differentJobsAreNotCoalesced()
+    {
+        RunExecution first = runNowService.submit("default", "job-a", "group", null);
+        RunExecution second = runNowService.submit("default", "job-b", "group", null);
+        RunExecution otherTenant = runNowService.submit("team-a", "job-a", "group", null);
+
+        assertNotSame(first, second);
+        assertNotSame(first, otherTenant);
+    }
+
+    @Test
+    void runningExecutionOutsideWindowDoesNotAbsorbNewRequest()
+    {
+        ReflectionTestUtils.setField(runNowService, "coalesceWindowMillis", 0L);
+        RunExecution running = runNowService.submit("default", "job", "group", null);
+        running.advance(Status.RUNNING, null);
+
+        RunExecution next = runNowService.submit("default", "job", "group", null);
+
+        assertNotSame(running, next);
+        assertEquals(0, running.getCoalescedRequests());
+    }
+
+    @Test
+    void runningExecutionInsideWindowAbsorbsNewRequest()
+    {
+        RunExecution running = runNowService.submit("default", "job", "group", null);
+        running.advance(Status.RUNNING, null);
+
+        assertSame(running, runNowService.submit("default", "job", "group", null));
+    }
+
+    @Test
+    void sameIdempotencyKeyReturnsSameExecution()
+    {
+        RunExecution first = runNowService.submit("default", "job", "group", "key-1");
+        first.advance(Status.COMPLETED, null);
+        ReflectionTestUtils.setField(runNowService, "coalesceWindowMillis", 0L);
+
+        assertSame(first, runNowService.submit("default", "job", "group", "key-1"));
+    }
+
+    @Test
+    void idempotencyKeyIsScopedPerTenant()
+    {
+        RunExecution first = runNowService.submit("default", "job", "group", "key-1");
+        RunExecution other = runNowService.submit("team-a", "job", "group", "key-1");
+
+        assertNotSame(first, other);
+        assertEquals("team-a", other.getTenantId());
+    }
+
+    @Test
+    void idempotencyKeyReusedForAnotherJobIsRejected()
+    {
+        runNowService.submit("default", "job-a", "group", "key-1");
+
+        assertThrows(IllegalStateException.class, () -> runNowService.submit("default", "job-b", "group", "key-1"));
+    }
+
+    @Test
+    void requestWhileDrainingIsRejectedWithoutDispatch() throws Exception
+    {
+        when(drainService.isDraining()).thenReturn(true);
+
+        RunExecution execution = runNowService.submit("default", "job", "group", null);
+
+        assertEquals(Status.REJECTED, execution.getStatus());
+        verify(schedulerService, never()).runJobNow(anyString(), anyString(), anyString(), any(JobDataMap.class));
+    }
+
+    @Test
+    void acceptedRequestIsDispatchedToQuartz() throws Exception
+    {
+        RunExecution execution = runNowService.submit("default", "job", "group", null);
+
+        verify(schedulerService, timeout(1_000)).runJobNow(eq("default"), eq("job"), eq("group"), any(JobDataMap.class));
+        assertNotNull(runNowService.getExecution("default", execution.getExecutionId()).orElse(null));
+        assertTrue(runNowService.getExecution("team-a", execution.getExecutionId()).isEmpty());
+    }
+}
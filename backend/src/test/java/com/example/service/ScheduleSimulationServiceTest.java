@@ -0,0 +1,135 @@
+package com.example.service;
+
+import com.example.config.SchedulerConfig;
+import com.example.dto.SimulationRequest;
+import com.example.dto.SimulationResult;
+import com.example.entity.SchedulerJob;
+import com.example.repository.SchedulerJobRepository;
+import com.example.scheduler.HashCronExpander;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScheduleSimulationServiceTest
+{
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    // 매 분 0초 3개 (team-a 2개, team-b 1개) + 매 분 30초 1개
+    private static final List<SchedulerJob> CATALOG = List.of(
+        job("team-a", "a1", "0 * * * * ?"),
+        job("team-a", "a2", "0 * * * * ?"),
+        job("team-b", "b1", "0 * * * * ?"),
+        job("team-a", "a3", "30 * * * * ?"));
+
+    @Test
+    void identicalExpressionsAreCountedOnceAndWeightedByJobCount()
+    {
+        SimulationResult result = service(2).simulate("team-a", request());
+
+        assertEquals(4, result.getJobCount());
+        assertEquals(2, result.getDistinctExpressions());
+        assertEquals(4 * 60, result.getTotalFires());
+        assertEquals(3, result.getPeakFiresPerSecond());
+        assertEquals(START, result.getPeakFiresAt());
+        assertTrue(result.getInvalidJobs().isEmpty());
+    }
+
+    @Test
+    void peakConcurrencyIsComparedWithThreadCount()
+    {
+        SimulationResult overloaded = service(2).simulate("team-a", request());
+        assertEquals(3, overloaded.getPeakConcurrency());
+        assertEquals(60, overloaded.getSecondsOverCapacity());
+
+        SimulationResult enough = service(4).simulate("team-a", request());
+        assertEquals(3, enough.getPeakConcurrency());
+        assertEquals(0, enough.getSecondsOverCapacity());
+        assertTrue(enough.getSuggestions().isEmpty());
+    }
+
+    @Test
+    void longerRunsOverlapIntoConcurrency()
+    {
+        SimulationRequest request = request();
+        request.setAverageRunSeconds(31);
+
+        // 0초 실행 3개가 30초 실행 1개와 겹침
+        SimulationResult result = service(3).simulate("team-a", request);
+        assertEquals(4, result.getPeakConcurrency());
+        assertEquals(START.plusSeconds(30), result.getPeakConcurrencyAt());
+        assertTrue(result.getSecondsOverCapacity() > 0);
+    }
+
+    @Test
+    void suggestionsUseRespreadExpressionForRequestingTenantOnly()
+    {
+        List<SimulationResult.Suggestion> suggestions = service(2).simulate("team-a", request()).getSuggestions()
+            .stream()
+            .sorted(Comparator.comparing(SimulationResult.Suggestion::getJobName))
+            .toList();
+
+        // 혼자 쓰는 "30 * * * * ?" 와 다른 테넌트 Job 은 제안 대상 아님
+        assertEquals(List.of("a1", "a2"), suggestions.stream().map(SimulationResult.Suggestion::getJobName).toList());
+        for (SimulationResult.Suggestion suggestion : suggestions)
+        {
+            assertEquals("0 * * * * ?", suggestion.getCronExpression());
+            assertEquals(START, suggestion.getHotspot());
+            assertEquals(HashCronExpander.respread("0 * * * * ?"), suggestion.getSuggestedCronExpression());
+            assertEquals("H * * * * ?", suggestion.getSuggestedCronExpression());
+            assertEquals(HashCronExpander.expand("H * * * * ?", suggestion.getJobName(), "group"),
+                suggestion.getExpandedCronExpression());
+        }
+    }
+
+    @Test
+    void alreadySpreadJobsAreNotSuggested()
+    {
+        SchedulerJobRepository jobRepository = mock(SchedulerJobRepository.class);
+        when(jobRepository.findAll()).thenReturn(List.of(
+            job("team-a", "a1", "H * * * * ?"),
+            job("team-a", "a2", "H * * * * ?"),
+            job("team-a", "a3", "15 * * * * ?"),
+            job("team-a", "a4", "15 * * * * ?")));
+        SchedulerConfig schedulerConfig = mock(SchedulerConfig.class);
+        when(schedulerConfig.getThreadCount()).thenReturn(1);
+
+        SimulationResult result = new ScheduleSimulationService(jobRepository, schedulerConfig).simulate("team-a", request());
+
+        // 재작성할 필드가 없으면 혼잡 구간이어도 제안하지 않음 (null 표현식 제안 없음)
+        assertTrue(result.getSecondsOverCapacity() > 0);
+        assertTrue(result.getSuggestions().isEmpty());
+    }
+
+    private static ScheduleSimulationService service(int threadCount)
+    {
+        SchedulerJobRepository jobRepository = mock(SchedulerJobRepository.class);
+        when(jobRepository.findAll()).thenReturn(CATALOG);
+        SchedulerConfig schedulerConfig = mock(SchedulerConfig.class);
+        when(schedulerConfig.getThreadCount()).thenReturn(threadCount);
+        return new ScheduleSimulationService(jobRepository, schedulerConfig);
+    }
+
+    private static SimulationRequest request()
+    {
+        SimulationRequest request = new SimulationRequest();
+        request.setStart(START);
+        request.setWindowHours(1);
+        return request;
+    }
+
+    private static SchedulerJob job(String tenantId, String name, String cronExpression)
+    {
+        SchedulerJob job = new SchedulerJob();
+        job.setTenantId(tenantId);
+        job.setJobName(name);
+        job.setJobGroup("group");
+        job.setCronExpression(cronExpression);
+        job.setStatus("ACTIVE");
+        return job;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.service;
+
+import com.example.config.TenantQuotaProperties;
+import com.example.entity.SchedulerJob;
+import com.example.repository.SchedulerJobRepository;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SchedulerServiceTest
+{
+    @Test
+    void concurrentCreatesDoNotExceedJobQuota() throws Exception
+    {
+        TenantQuotaProperties properties = new TenantQuotaProperties();
+        properties.getOverrides().put("team-a", new TenantQuotaProperties.Quota(5, 0, 0));
+
+        // 저장 전 개수를 읽고, 저장은 잠시 뒤 반영 → 잠금이 없으면 여러 등록이 같은 개수를 보고 통과
+        AtomicLong stored = new AtomicLong();
+        SchedulerJobRepository jobRepository = mock(SchedulerJobRepository.class);
+        when(jobRepository.countByTenantId("team-a")).thenAnswer(invocation -> stored.get());
+        when(jobRepository.save(any(SchedulerJob.class))).thenAnswer(invocation ->
+        {
+            Thread.sleep(10);
+            stored.incrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        SchedulerService schedulerService = new SchedulerService(mock(Scheduler.class), jobRepository,
+            new TenantQuotaService(mock(Scheduler.class), properties), mock(IntervalTriggerService.class));
+
+        int requests = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++)
+        {
+            SchedulerJob job = new SchedulerJob();
+            job.setJobName("job-" + i);
+            job.setJobGroup("group");
+            job.setCronExpression("0 0 * * * ?");
+            results.add(executor.submit(() ->
+            {
+                start.await();
+                try
+                {
+                    schedulerService.createJob("team-a", job);
+                    return true;
+                }
+                catch (IllegalArgumentException e)
+                {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        for (Future<Boolean> result : results)
+        {
+            created += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdownNow();
+
+        assertEquals(5, created);
+        assertEquals(5, stored.get());
+    }
+}